@@ -0,0 +1,106 @@
+package org.soccer.benchmarks;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.soccer.data.DatasetGenerator;
+import org.soccer.data.DatasetSpec;
+import org.soccer.repositories.LeagueRepository;
+import org.soccer.repositories.MatchEventRepository;
+import org.soccer.repositories.MatchRepository;
+import org.soccer.repositories.PlayerRepository;
+import org.soccer.repositories.TeamRepository;
+import org.soccer.repositories.TransactionTemplate;
+import org.soccer.services.LeaderboardService;
+import org.soccer.services.LiveMatchRegistry;
+import org.soccer.services.MatchEventService;
+import org.soccer.services.MatchService;
+import org.soccer.services.PlayerService;
+import org.soccer.services.RosterVersions;
+import org.soccer.services.TeamService;
+import org.soccer.simulation.MatchSimulator;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+// In-memory H2 store loaded with a generated dataset, wired the same way as Main
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+    // Held so the level is not lost when the logger is garbage collected
+    private static final Logger HIBERNATE_LOGGER = Logger.getLogger("org.hibernate");
+
+    @Param({"small"})
+    public String dataset;
+
+    EntityManagerFactory emf;
+    EntityManager em;
+
+    PlayerRepository playerRepository;
+    TeamRepository teamRepository;
+    LeagueRepository leagueRepository;
+    MatchRepository matchRepository;
+    MatchEventRepository matchEventRepository;
+    MatchSimulator matchSimulator;
+    MatchService matchService;
+    PlayerService playerService;
+    LeaderboardService leaderboardService;
+    LiveMatchRegistry liveMatchRegistry;
+
+    long[] leagueIds;
+    long[] teamIds;
+    long[] playerIds;
+    long[] matchIds;
+    // First two teams of every league, index-aligned with leagueIds
+    long[] homeTeamIds;
+    long[] awayTeamIds;
+
+    @Setup
+    public void open() {
+        HIBERNATE_LOGGER.setLevel(Level.WARNING);
+        emf = Persistence.createEntityManagerFactory("default");
+        new DatasetGenerator(emf).generate(DatasetSpec.named(dataset));
+        em = emf.createEntityManager();
+
+        playerRepository = new PlayerRepository(em);
+        teamRepository = new TeamRepository(em);
+        leagueRepository = new LeagueRepository(em);
+        matchRepository = new MatchRepository(em);
+        matchEventRepository = new MatchEventRepository(em);
+
+        leaderboardService = new LeaderboardService(playerRepository);
+        RosterVersions rosterVersions = new RosterVersions();
+        playerService = new PlayerService(playerRepository, leaderboardService, rosterVersions);
+        TeamService teamService = new TeamService(teamRepository, leaderboardService, rosterVersions);
+        liveMatchRegistry = new LiveMatchRegistry();
+        matchService = new MatchService(matchRepository, null, liveMatchRegistry);
+        matchService.reconcileLiveMatches();
+        MatchEventService matchEventService = new MatchEventService(matchEventRepository);
+        matchSimulator = new MatchSimulator(new TransactionTemplate(em), playerService, teamService, matchService,
+                                            matchEventService);
+
+        leagueIds = ids("SELECT l.id FROM League l ORDER BY l.id");
+        teamIds = ids("SELECT t.id FROM Team t ORDER BY t.id");
+        playerIds = ids("SELECT p.id FROM Player p ORDER BY p.id");
+        matchIds = ids("SELECT m.id FROM Match m ORDER BY m.id");
+        homeTeamIds = ids("SELECT MIN(t.id) FROM Team t GROUP BY t.league.id ORDER BY t.league.id");
+        awayTeamIds = ids("SELECT MAX(t.id) FROM Team t GROUP BY t.league.id ORDER BY t.league.id");
+    }
+
+    @TearDown
+    public void close() {
+        em.close();
+        emf.close();
+    }
+
+    private long[] ids(String jpql) {
+        List<Long> ids = em.createQuery(jpql, Long.class).getResultList();
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,22 @@
+package org.soccer.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Entry point of benchmarks.jar. Accepts the usual JMH options (e.g. a name regex,
+// -f, -wi, -i) and always adds the GC profiler, so every result carries allocation
+// rate (gc.alloc.rate.norm is bytes per operation) next to throughput and latency.
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                       .parent(new CommandLineOptions(args))
+                       .addProfiler(GCProfiler.class)
+                       .build())
+            .run();
+    }
+}
@@ -0,0 +1,20 @@
+package org.soccer.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+// Walks id arrays in order so successive invocations hit different rows
+@State(Scope.Thread)
+public class Cursor {
+    private int position;
+
+    int next(int length) {
+        int index = position % length;
+        position = index + 1;
+        return index;
+    }
+
+    long next(long[] ids) {
+        return ids[next(ids.length)];
+    }
+}
@@ -0,0 +1,48 @@
+package org.soccer.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soccer.simulation.FixtureSchedule;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FixtureBenchmark {
+    @Param({"10", "1000"})
+    public int teamCount;
+
+    // Walks every match of a home-and-away season; the checksum keeps the loop alive
+    @Benchmark
+    public long homeAndAwaySeason() {
+        FixtureSchedule schedule = new FixtureSchedule(teamCount, true);
+        long checksum = 0;
+        for (int round = 0; round < schedule.getRounds(); round++) {
+            for (int slot = 0; slot < schedule.getSlotsPerRound(); slot++) {
+                if (!schedule.isBye(round, slot)) {
+                    checksum += 31L * schedule.home(round, slot) + schedule.away(round, slot);
+                }
+            }
+        }
+        return checksum;
+    }
+
+    // Random access to a single pairing deep into the season
+    @Benchmark
+    public int pairing() {
+        FixtureSchedule schedule = new FixtureSchedule(teamCount, true);
+        return schedule.home(schedule.getRounds() - 1, schedule.getSlotsPerRound() - 1);
+    }
+}
@@ -0,0 +1,58 @@
+package org.soccer.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soccer.simulation.GeometricGoalSampler;
+import org.soccer.simulation.GoalSampler;
+import org.soccer.simulation.MatchSimulator;
+import org.soccer.simulation.PerMinuteGoalSampler;
+
+// Final score of one match, as the simulator and forecaster draw it
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GoalSamplerBenchmark {
+    @Param({"perMinute", "geometric"})
+    public String sampler;
+
+    private GoalSampler goalSampler;
+    private SplittableRandom random;
+
+    @Setup
+    public void createSampler() {
+        double chance = MatchSimulator.GOAL_CHANCE_PER_MINUTE;
+        goalSampler = sampler.equals("geometric") ? new GeometricGoalSampler(chance) : new PerMinuteGoalSampler(chance);
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public int matchScore() {
+        int last = MatchSimulator.MATCH_MINUTES;
+        int homeGoals = 0;
+        int awayGoals = 0;
+        for (int minute = goalSampler.nextGoalMinute(0, last, random); minute <= last;
+             minute = goalSampler.nextGoalMinute(minute, last, random)) {
+            if (random.nextBoolean()) {
+                homeGoals++;
+            } else {
+                awayGoals++;
+            }
+        }
+        return homeGoals * 100 + awayGoals;
+    }
+}
@@ -0,0 +1,56 @@
+package org.soccer.benchmarks;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soccer.dto.TopScorer;
+import org.soccer.models.Player;
+
+// Top ten scorers three ways: load and sort every player, read the goals index, or ask
+// the in-memory leaderboard
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeaderboardBenchmark {
+    private static final int TOP = 10;
+
+    @Benchmark
+    public List<Player> topScorersBySort(BenchmarkDatabase db) {
+        List<Player> top = db.playerService.getAllPlayers().stream()
+                .sorted(Comparator.comparingInt(Player::getGoalsScored).reversed())
+                .limit(TOP)
+                .toList();
+        db.em.clear();
+        return top;
+    }
+
+    @Benchmark
+    public List<TopScorer> topScorersFromIndex(BenchmarkDatabase db) {
+        return db.playerRepository.findTopScorers(TOP);
+    }
+
+    @Benchmark
+    public List<TopScorer> topScorersFromLeaderboard(BenchmarkDatabase db) {
+        return db.leaderboardService.getTopScorers(TOP);
+    }
+
+    @Benchmark
+    public List<TopScorer> leagueTopScorersFromIndex(BenchmarkDatabase db, Cursor cursor) {
+        return db.playerRepository.findTopScorersByLeagueId(cursor.next(db.leagueIds), TOP);
+    }
+
+    @Benchmark
+    public List<TopScorer> leagueTopScorersFromLeaderboard(BenchmarkDatabase db, Cursor cursor) {
+        return db.leaderboardService.getTopScorers(cursor.next(db.leagueIds), TOP);
+    }
+}
@@ -0,0 +1,64 @@
+package org.soccer.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soccer.dto.ActiveMatch;
+import org.soccer.models.League;
+import org.soccer.models.Match;
+import org.soccer.models.Team;
+
+// "What's live now" three ways, with one match under way in every league: the status query
+// loading entities, the registry's projection read from the database, and the registry itself
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LiveMatchBenchmark {
+
+    // One ongoing fixture per league, started through MatchService so the registry sees it.
+    // Left in place: the in-memory store goes away with the fork.
+    @State(Scope.Benchmark)
+    public static class Matchday {
+
+        @Setup
+        public void start(BenchmarkDatabase db) {
+            for (int league = 0; league < db.leagueIds.length; league++) {
+                Match match = new Match(db.em.getReference(Team.class, db.homeTeamIds[league]),
+                                        db.em.getReference(Team.class, db.awayTeamIds[league]),
+                                        db.em.getReference(League.class, db.leagueIds[league]));
+                db.matchService.createMatch(match);
+                db.matchService.startMatch(match.getId());
+            }
+            db.em.clear();
+        }
+    }
+
+    @Benchmark
+    public List<Match> ongoingByStatusQuery(BenchmarkDatabase db, Matchday matchday) {
+        List<Match> matches = db.matchRepository.findOngoingMatches();
+        db.em.clear();
+        return matches;
+    }
+
+    @Benchmark
+    public List<ActiveMatch> ongoingFromDatabase(BenchmarkDatabase db, Matchday matchday) {
+        return db.matchRepository.findActiveMatches();
+    }
+
+    @Benchmark
+    public List<ActiveMatch> ongoingFromRegistry(BenchmarkDatabase db, Matchday matchday) {
+        return db.liveMatchRegistry.getOngoing();
+    }
+}
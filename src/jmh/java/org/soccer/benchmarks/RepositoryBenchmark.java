@@ -0,0 +1,187 @@
+package org.soccer.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soccer.enums.MatchOutcome;
+import org.soccer.enums.PlayerPosition;
+import org.soccer.models.League;
+import org.soccer.models.Match;
+import org.soccer.models.MatchEvent;
+import org.soccer.models.Player;
+import org.soccer.models.Team;
+
+// CRUD and finder paths of every repository. Each invocation ends with a cleared
+// persistence context so finds go past the first-level cache, as a new request would.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    // Player
+
+    @Benchmark
+    public Player playerFindById(BenchmarkDatabase db, Cursor cursor) {
+        Player player = db.playerRepository.findById(cursor.next(db.playerIds));
+        db.em.clear();
+        return player;
+    }
+
+    @Benchmark
+    public List<Player> playerFindByTeamId(BenchmarkDatabase db, Cursor cursor) {
+        List<Player> players = db.playerRepository.findByTeamId(cursor.next(db.teamIds));
+        db.em.clear();
+        return players;
+    }
+
+    @Benchmark
+    public Player playerCrud(BenchmarkDatabase db, Cursor cursor) {
+        Player player = new Player("Benchmark Player", PlayerPosition.FORWARD, 9, 25);
+        player.setTeam(db.em.getReference(Team.class, cursor.next(db.teamIds)));
+        db.playerRepository.save(player);
+        player.setGoalsScored(1);
+        db.playerRepository.update(player);
+        db.playerRepository.delete(player);
+        db.em.clear();
+        return player;
+    }
+
+    // Team
+
+    @Benchmark
+    public Team teamFindById(BenchmarkDatabase db, Cursor cursor) {
+        Team team = db.teamRepository.findById(cursor.next(db.teamIds));
+        db.em.clear();
+        return team;
+    }
+
+    @Benchmark
+    public List<Team> teamFindByLeagueId(BenchmarkDatabase db, Cursor cursor) {
+        List<Team> teams = db.teamRepository.findByLeagueId(cursor.next(db.leagueIds));
+        db.em.clear();
+        return teams;
+    }
+
+    @Benchmark
+    public Team teamCrud(BenchmarkDatabase db, Cursor cursor) {
+        Team team = new Team("Benchmark Team", "Benchmark Coach");
+        team.setLeague(db.em.getReference(League.class, cursor.next(db.leagueIds)));
+        db.teamRepository.save(team);
+        team.setTotalPoints(3);
+        db.teamRepository.update(team);
+        db.teamRepository.delete(team);
+        db.em.clear();
+        return team;
+    }
+
+    // League
+
+    @Benchmark
+    public League leagueFindById(BenchmarkDatabase db, Cursor cursor) {
+        League league = db.leagueRepository.findById(cursor.next(db.leagueIds));
+        db.em.clear();
+        return league;
+    }
+
+    @Benchmark
+    public List<Team> leagueFindTeams(BenchmarkDatabase db, Cursor cursor) {
+        List<Team> teams = db.leagueRepository.findTeams(cursor.next(db.leagueIds));
+        db.em.clear();
+        return teams;
+    }
+
+    @Benchmark
+    public List<Match> leagueFindFinishedMatches(BenchmarkDatabase db, Cursor cursor) {
+        List<Match> matches = db.leagueRepository.findFinishedMatches(cursor.next(db.leagueIds));
+        db.em.clear();
+        return matches;
+    }
+
+    @Benchmark
+    public League leagueCrud(BenchmarkDatabase db) {
+        League league = new League("Benchmark League");
+        db.leagueRepository.save(league);
+        league.setName("Renamed League");
+        db.leagueRepository.update(league);
+        db.leagueRepository.delete(league);
+        db.em.clear();
+        return league;
+    }
+
+    // Match
+
+    @Benchmark
+    public Match matchFindById(BenchmarkDatabase db, Cursor cursor) {
+        Match match = db.matchRepository.findById(cursor.next(db.matchIds));
+        db.em.clear();
+        return match;
+    }
+
+    @Benchmark
+    public List<Match> matchFindByLeagueId(BenchmarkDatabase db, Cursor cursor) {
+        List<Match> matches = db.matchRepository.findByLeagueId(cursor.next(db.leagueIds));
+        db.em.clear();
+        return matches;
+    }
+
+    // Run on the large dataset too, where an index range scan and a full scan part ways
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+    public List<Match> matchFindByTeamId(TeamLookupDatabase lookup, Cursor cursor) {
+        BenchmarkDatabase db = lookup.db;
+        List<Match> matches = db.matchRepository.findByTeamId(cursor.next(db.teamIds));
+        db.em.clear();
+        return matches;
+    }
+
+    // The OR over both team columns that findByTeamId used before team_participations; a full scan
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+    public List<Match> matchFindByTeamIdScan(TeamLookupDatabase lookup, Cursor cursor) {
+        BenchmarkDatabase db = lookup.db;
+        List<Match> matches = db.em.createQuery(
+                "SELECT m FROM Match m WHERE m.homeTeam.id = :teamId OR m.awayTeam.id = :teamId ORDER BY m.id",
+                Match.class)
+                .setParameter("teamId", cursor.next(db.teamIds))
+                .getResultList();
+        db.em.clear();
+        return matches;
+    }
+
+    @Benchmark
+    public List<MatchOutcome> matchFindFormByTeamId(BenchmarkDatabase db, Cursor cursor) {
+        return db.matchRepository.findFormByTeamId(cursor.next(db.teamIds), 5);
+    }
+
+    @Benchmark
+    public Match matchCrud(BenchmarkDatabase db, Cursor cursor) {
+        int league = cursor.next(db.leagueIds.length);
+        Match match = new Match(db.em.getReference(Team.class, db.homeTeamIds[league]),
+                                db.em.getReference(Team.class, db.awayTeamIds[league]),
+                                db.em.getReference(League.class, db.leagueIds[league]));
+        db.matchRepository.save(match);
+        match.setHomeScore(1);
+        db.matchRepository.update(match);
+        db.matchRepository.delete(match);
+        db.em.clear();
+        return match;
+    }
+
+    // Match events
+
+    @Benchmark
+    public List<MatchEvent> matchEventFindByMatchId(BenchmarkDatabase db, Cursor cursor) {
+        List<MatchEvent> events = db.matchEventRepository.findByMatchId(cursor.next(db.matchIds));
+        db.em.clear();
+        return events;
+    }
+}
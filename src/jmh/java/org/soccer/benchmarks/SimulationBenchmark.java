@@ -0,0 +1,73 @@
+package org.soccer.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soccer.models.League;
+import org.soccer.models.Match;
+import org.soccer.models.Team;
+import org.soccer.simulation.MatchResult;
+import org.soccer.simulation.RosterSnapshot;
+
+// A full simulated match: creation, 90 minutes, goal and event writes, full time
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationBenchmark {
+
+    // Both squads loaded for the match
+    @Benchmark
+    public MatchResult simulateMatch(BenchmarkDatabase db, Cursor cursor) {
+        Match match = createMatch(db, cursor);
+        MatchResult result = db.matchSimulator.simulate(match);
+        // Each match is a separate unit of work, as in the interactive menu
+        db.em.clear();
+        return result;
+    }
+
+    // Scorers chosen from a snapshot taken once, as a season does
+    @Benchmark
+    public MatchResult simulateMatchWithRoster(BenchmarkDatabase db, Rosters rosters, Cursor cursor) {
+        Match match = createMatch(db, cursor);
+        MatchResult result = db.matchSimulator.simulate(match, rosters.snapshot);
+        db.em.clear();
+        return result;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Rosters {
+        RosterSnapshot snapshot;
+
+        @Setup
+        public void load(BenchmarkDatabase db) {
+            List<Long> teamIds = new ArrayList<>();
+            for (int league = 0; league < db.leagueIds.length; league++) {
+                teamIds.add(db.homeTeamIds[league]);
+                teamIds.add(db.awayTeamIds[league]);
+            }
+            snapshot = RosterSnapshot.ofTeams(teamIds, db.playerService);
+        }
+    }
+
+    private static Match createMatch(BenchmarkDatabase db, Cursor cursor) {
+        int league = cursor.next(db.leagueIds.length);
+        Match match = new Match(db.em.getReference(Team.class, db.homeTeamIds[league]),
+                                db.em.getReference(Team.class, db.awayTeamIds[league]),
+                                db.em.getReference(League.class, db.leagueIds[league]));
+        db.matchService.createMatch(match);
+        return match;
+    }
+}
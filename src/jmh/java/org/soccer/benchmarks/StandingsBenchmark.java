@@ -0,0 +1,81 @@
+package org.soccer.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soccer.enums.MatchStatus;
+import org.soccer.models.League;
+import org.soccer.models.LeagueStandings;
+import org.soccer.models.Match;
+import org.soccer.models.StandingRow;
+import org.soccer.models.Team;
+
+// Standings without the database: a full season of finished matches built in memory
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StandingsBenchmark {
+    @Param({"4", "10"})
+    public int teamCount;
+
+    private List<Team> teams;
+    private List<Match> season;
+    private LeagueStandings standings;
+
+    @Setup
+    public void createSeason() {
+        SplittableRandom random = new SplittableRandom(42);
+        League league = new League("Benchmark League");
+        teams = new ArrayList<>();
+        for (int i = 0; i < teamCount; i++) {
+            Team team = new Team("Team " + i, "Coach " + i);
+            team.setId((long) i + 1);
+            teams.add(team);
+        }
+        season = new ArrayList<>();
+        for (Team home : teams) {
+            for (Team away : teams) {
+                if (home != away) {
+                    Match match = new Match(home, away, league);
+                    match.setHomeScore(random.nextInt(5));
+                    match.setAwayScore(random.nextInt(5));
+                    match.setStatus(MatchStatus.FINISHED);
+                    season.add(match);
+                }
+            }
+        }
+        standings = new LeagueStandings();
+        standings.initialize(teams, season);
+    }
+
+    // Cold start: the table rebuilt from a season of results
+    @Benchmark
+    public List<StandingRow> initialize() {
+        LeagueStandings fresh = new LeagueStandings();
+        fresh.initialize(teams, season);
+        return fresh.getTable();
+    }
+
+    // Incremental update after one full-time whistle, then a table read
+    @Benchmark
+    public List<StandingRow> recordResult(Cursor cursor) {
+        standings.recordResult(season.get(cursor.next(season.size())));
+        return standings.getTable();
+    }
+}
@@ -0,0 +1,29 @@
+package org.soccer.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// BenchmarkDatabase at the sizes where a team's matches read through team_participations and
+// a full scan of the matches table part ways. Only the team lookups use it: generating the
+// large dataset (1.8M matches) takes minutes and about 2.5 GB of heap.
+@State(Scope.Benchmark)
+public class TeamLookupDatabase {
+    @Param({"small", "large"})
+    public String dataset;
+
+    final BenchmarkDatabase db = new BenchmarkDatabase();
+
+    @Setup
+    public void open() {
+        db.dataset = dataset;
+        db.open();
+    }
+
+    @TearDown
+    public void close() {
+        db.close();
+    }
+}
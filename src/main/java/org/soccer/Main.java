@@ -1,24 +1,71 @@
 package org.soccer;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Scanner;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
+import org.soccer.data.BackfillResult;
+import org.soccer.data.BulkImporter;
+import org.soccer.data.DatasetGenerator;
+import org.soccer.data.DatasetSpec;
+import org.soccer.data.GenerationResult;
+import org.soccer.data.ImportResult;
+import org.soccer.data.ImportValidationException;
+import org.soccer.data.RatingBackfill;
+import org.soccer.dto.ActiveMatch;
+import org.soccer.dto.LeagueReadiness;
+import org.soccer.dto.LeagueSummary;
+import org.soccer.dto.MatchSummary;
+import org.soccer.dto.PlayerSummary;
+import org.soccer.dto.TeamSummary;
+import org.soccer.dto.TopScorer;
 import org.soccer.enums.PlayerPosition;
 import org.soccer.models.League;
+import org.soccer.models.LeagueStandings;
 import org.soccer.models.Match;
 import org.soccer.models.Player;
+import org.soccer.models.StandingRow;
 import org.soccer.models.Team;
 import org.soccer.repositories.LeagueRepository;
+import org.soccer.repositories.MatchEventRepository;
 import org.soccer.repositories.MatchRepository;
 import org.soccer.repositories.PlayerRepository;
+import org.soccer.repositories.TeamRatingRepository;
 import org.soccer.repositories.TeamRepository;
+import org.soccer.repositories.TransactionTemplate;
+import org.soccer.services.CacheStatisticsService;
+import org.soccer.services.LeaderboardService;
 import org.soccer.services.LeagueService;
+import org.soccer.services.LiveMatchRegistry;
+import org.soccer.services.MatchEventService;
 import org.soccer.services.MatchService;
 import org.soccer.services.PlayerService;
+import org.soccer.services.RatingService;
+import org.soccer.services.ReadinessService;
+import org.soccer.services.RosterVersions;
 import org.soccer.services.TeamService;
+import org.soccer.simulation.FixtureSchedule;
+import org.soccer.simulation.LiveMatchEngine;
+import org.soccer.simulation.LiveMatchEvent;
+import org.soccer.simulation.LiveResultWriter;
+import org.soccer.simulation.LiveScoreFeed;
+import org.soccer.simulation.MatchResult;
+import org.soccer.simulation.MatchSimulator;
+import org.soccer.simulation.RosterSnapshot;
+import org.soccer.simulation.RoundExecutor;
+import org.soccer.simulation.SeasonForecast;
+import org.soccer.simulation.SeasonForecaster;
+import org.soccer.simulation.SeasonResult;
+import org.soccer.simulation.SeasonRunner;
+import org.soccer.simulation.SimulationSeed;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -34,6 +81,18 @@ public class Main {
     private static TeamService teamService;
     private static LeagueService leagueService;
     private static MatchService matchService;
+    private static MatchEventService matchEventService;
+    private static CacheStatisticsService cacheStatisticsService;
+    private static ReadinessService readinessService;
+    private static RatingService ratingService;
+    private static LeaderboardService leaderboardService;
+    private static LiveMatchRegistry liveMatchRegistry;
+
+    // Simulation
+    private static MatchSimulator matchSimulator;
+    private static SeasonRunner seasonRunner;
+    private static SeasonRunner parallelSeasonRunner;
+    private static SeasonForecaster seasonForecaster;
 
     public static void main(String[] args) {
         try {
@@ -42,6 +101,12 @@ public class Main {
             
             // Initialize services
             initializeServices();
+
+            // Non-interactive mode: run the requested command and exit
+            if (args.length > 0) {
+                runCommandLine(args);
+                return;
+            }
             
             // Initialize scanner
             scanner = new Scanner(System.in);
@@ -77,17 +142,257 @@ public class Main {
         TeamRepository teamRepository = new TeamRepository(em);
         LeagueRepository leagueRepository = new LeagueRepository(em);
         MatchRepository matchRepository = new MatchRepository(em);
+        MatchEventRepository matchEventRepository = new MatchEventRepository(em);
+        TeamRatingRepository teamRatingRepository = new TeamRatingRepository(em);
         
         // Initialize services
-        playerService = new PlayerService(playerRepository);
-        teamService = new TeamService(teamRepository);
-        leagueService = new LeagueService(leagueRepository);
-        matchService = new MatchService(matchRepository);
+        leaderboardService = new LeaderboardService(playerRepository);
+        RosterVersions rosterVersions = new RosterVersions();
+        playerService = new PlayerService(playerRepository, leaderboardService, rosterVersions);
+        teamService = new TeamService(teamRepository, leaderboardService, rosterVersions);
+        liveMatchRegistry = new LiveMatchRegistry();
+        leagueService = new LeagueService(leagueRepository, liveMatchRegistry, leaderboardService, rosterVersions);
+        ratingService = new RatingService(teamService, teamRatingRepository);
+        matchService = new MatchService(matchRepository, ratingService, liveMatchRegistry);
+        // Matches left scheduled or ongoing by an earlier run
+        matchService.reconcileLiveMatches();
+        matchEventService = new MatchEventService(matchEventRepository);
+        cacheStatisticsService = new CacheStatisticsService(emf);
+        readinessService = new ReadinessService(teamService, playerService);
+
+        // Initialize simulation
+        TransactionTemplate transactionTemplate = new TransactionTemplate(em);
+        matchSimulator = new MatchSimulator(transactionTemplate, playerService, teamService, matchService, matchEventService);
+        seasonRunner = new SeasonRunner(transactionTemplate, leagueService, teamService, playerService, matchService,
+                                        matchSimulator);
+        RoundExecutor roundExecutor = new RoundExecutor(emf, transactionTemplate, playerService, matchService, matchSimulator);
+        parallelSeasonRunner = new SeasonRunner(transactionTemplate, leagueService, teamService, playerService,
+                                                matchService, matchSimulator, roundExecutor);
+        seasonForecaster = new SeasonForecaster(teamService, playerService, matchService);
         
         // Add mocked Spanish league data
         addMockedSpanishLeague();
     }
 
+    private static void runCommandLine(String[] args) {
+        if (args[0].equals("--simulate-season") && args.length >= 2 && hasValidSeed(options(args, 2))) {
+            List<String> options = options(args, 2);
+            SeasonRunner runner = options.contains("--parallel") ? parallelSeasonRunner : seasonRunner;
+            runHeadlessSeason(runner, Long.parseLong(args[1]), options.contains("--home-and-away"), seed(options));
+        } else if (args[0].equals("--forecast") && args.length >= 3 && hasValidSeed(options(args, 3))) {
+            List<String> options = options(args, 3);
+            runForecast(Long.parseLong(args[1]), Integer.parseInt(args[2]), options.contains("--home-and-away"),
+                        seed(options));
+        } else if (args[0].equals("--import-csv") && args.length == 4) {
+            runImport(() -> new BulkImporter(emf).importCsv(Path.of(args[1]), Path.of(args[2]), Path.of(args[3])));
+        } else if (args[0].equals("--import-json") && args.length == 2) {
+            runImport(() -> new BulkImporter(emf).importJson(Path.of(args[1])));
+        } else if (args[0].equals("--generate") && (args.length == 2 || args.length == 3)) {
+            DatasetSpec spec = DatasetSpec.named(args[1]);
+            runGenerate(args.length == 3 ? spec.withSeed(Long.parseLong(args[2])) : spec);
+        } else if (args[0].equals("--recompute-ratings") && args.length == 1) {
+            runRatingBackfill();
+        } else if (args[0].equals("--live-matchday") && (args.length == 2 || args.length == 3)) {
+            SimulationSeed seed = args.length == 3 ? SimulationSeed.of(Long.parseLong(args[2])) : null;
+            runLiveMatchday(Double.parseDouble(args[1]), seed);
+        } else if (args[0].equals("--reset-season") && args.length == 2) {
+            leagueService.resetSeason(Long.parseLong(args[1]));
+            System.out.println("Season reset for league " + args[1]);
+        } else if (args[0].equals("--delete-league") && args.length == 2) {
+            leagueService.deleteLeague(Long.parseLong(args[1]));
+            System.out.println("Deleted league " + args[1]);
+        } else {
+            System.out.println("Usage: Main [--simulate-season <leagueId> [--parallel] [--home-and-away] [--seed <n>]"
+                               + " | --forecast <leagueId> <runs> [--home-and-away] [--seed <n>]"
+                               + " | --live-matchday <timeCompression> [seed]"
+                               + " | --import-csv <leagues> <teams> <players> | --import-json <file>"
+                               + " | --generate <small|medium|large> [seed] | --recompute-ratings"
+                               + " | --reset-season <leagueId> | --delete-league <leagueId>]");
+        }
+    }
+
+    private static List<String> options(String[] args, int first) {
+        return List.of(args).subList(first, args.length);
+    }
+
+    // "--seed <n>" may appear anywhere among the options; absent is valid too
+    private static boolean hasValidSeed(List<String> options) {
+        int at = options.indexOf("--seed");
+        if (at < 0) {
+            return true;
+        }
+        if (at + 1 >= options.size()) {
+            return false;
+        }
+        try {
+            Long.parseLong(options.get(at + 1));
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static SimulationSeed seed(List<String> options) {
+        int at = options.indexOf("--seed");
+        return at < 0 ? null : SimulationSeed.of(Long.parseLong(options.get(at + 1)));
+    }
+
+    private static void runGenerate(DatasetSpec spec) {
+        GenerationResult result = new DatasetGenerator(emf).generate(spec);
+        System.out.printf("Generated %d leagues, %d teams, %d players and %d matches in %d ms (%.0f rows/s)%n",
+                        result.leagues(), result.teams(), result.players(), result.matches(),
+                        result.elapsed().toMillis(), result.rowsPerSecond());
+    }
+
+    private static void runRatingBackfill() {
+        BackfillResult result = new RatingBackfill(emf).recompute();
+        System.out.printf("Recomputed ratings of %d teams in %d leagues from %d matches in %d ms (%.0f matches/s)%n",
+                        result.teams(), result.leagues(), result.matches(),
+                        result.elapsed().toMillis(), result.matchesPerSecond());
+    }
+
+    private static void runImport(Supplier<ImportResult> importer) {
+        try {
+            ImportResult result = importer.get();
+            System.out.printf("Imported %d leagues, %d teams and %d players in %d ms (%.0f rows/s)%n",
+                            result.leagues(), result.teams(), result.players(),
+                            result.elapsed().toMillis(), result.rowsPerSecond());
+        } catch (ImportValidationException e) {
+            System.out.println("Import rejected, nothing was written:");
+            e.getErrors().forEach(error -> System.out.println("  " + error));
+        }
+    }
+
+    private static void runForecast(Long leagueId, int runs, boolean homeAndAway, SimulationSeed seed) {
+        SeasonForecast forecast = seasonForecaster.forecast(leagueId, runs, homeAndAway, seed);
+        int teamCount = forecast.getTeamIds().size();
+
+        System.out.println("Forecast after " + forecast.getRuns() + " runs");
+        System.out.println("Team | Title % | Bottom % | Position distribution %");
+        for (int team = 0; team < teamCount; team++) {
+            StringBuilder distribution = new StringBuilder();
+            for (int position = 0; position < teamCount; position++) {
+                distribution.append(String.format("%6.2f", forecast.getPositionProbability(team, position) * 100));
+            }
+            System.out.printf("%-15s | %6.2f | %6.2f |%s%n",
+                            forecast.getTeamNames().get(team),
+                            forecast.getTitleProbability(team) * 100,
+                            forecast.getRelegationProbability(team, 1) * 100,
+                            distribution);
+        }
+        System.out.printf("%.0f runs/s%n", forecast.getRunsPerSecond());
+    }
+
+    // First round of every ready league, all played at once on the live clock
+    private static void runLiveMatchday(double timeCompression, SimulationSeed seed) {
+        long start = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(em);
+        List<CompletableFuture<MatchResult>> results = new ArrayList<>();
+        LiveResultWriter writer = new LiveResultWriter(emf, playerService.getLeaderboardService(), liveMatchRegistry);
+        long droppedEvents;
+        try (LiveMatchEngine engine = new LiveMatchEngine(timeCompression)) {
+            engine.subscribe(writer);
+            engine.subscribe(new LiveScoreFeed(liveMatchRegistry));
+            for (LeagueReadiness readiness : readinessService.getReadinessReport()) {
+                if (!readiness.isReady()) {
+                    continue;
+                }
+                League league = leagueService.getLeagueById(readiness.leagueId());
+                List<Team> teams = teamService.getTeamsByLeague(league.getId());
+                FixtureSchedule schedule = new FixtureSchedule(teams.size(), false);
+                // Fixtures are committed as ONGOING before the clock reaches them
+                List<Match> matches = transactionTemplate.execute(() -> {
+                    List<Match> created = seasonRunner.createMatches(league, teams, schedule, 0);
+                    created.forEach(match -> matchService.startMatch(match.getId()));
+                    return created;
+                });
+                RosterSnapshot roster = RosterSnapshot.ofLeague(league.getId(), playerService);
+                SimulationSeed leagueSeed = seed == null ? null : seed.forLeague(league.getId());
+                for (Match match : matches) {
+                    // Each match owns its stream: the clock thread draws from all of them
+                    RandomGenerator random = leagueSeed == null ? new SplittableRandom()
+                            : leagueSeed.forFixture(0, match.getHomeTeam().getId(), match.getAwayTeam().getId());
+                    results.add(engine.kickOff(match, roster, MatchSimulator.homeGoalShare(match, roster), random));
+                }
+                // The engine copied what it needs; don't dirty-check every league's fixtures on each
+                // flush. They are loaded again when their results are counted.
+                matches.forEach(em::detach);
+            }
+            CompletableFuture<Void> fullTime = CompletableFuture.allOf(results.toArray(CompletableFuture[]::new));
+            while (!fullTime.isDone()) {
+                printLiveNow();
+                countLiveResults(writer);
+                // Waits up to a second without completing fullTime itself
+                fullTime.copy().completeOnTimeout(null, 1, TimeUnit.SECONDS).join();
+            }
+            droppedEvents = engine.getDroppedEvents();
+        }
+        writer.completion().join();
+        countLiveResults(writer);
+
+        int goals = results.stream().mapToInt(result -> result.join().goals().size()).sum();
+        System.out.printf("Played %d live matches with %d goals in %d ms; %d minute updates dropped%n",
+                        results.size(), goals, (System.nanoTime() - start) / 1_000_000, droppedEvents);
+    }
+
+    // Applies the results the writer has committed to this context's league tables, ratings and points
+    private static void countLiveResults(LiveResultWriter writer) {
+        List<LiveMatchEvent> written = writer.drainWritten();
+        if (written.isEmpty()) {
+            return;
+        }
+        new TransactionTemplate(em).execute(() -> {
+            List<Match> matches = new ArrayList<>(written.size());
+            List<MatchResult> results = new ArrayList<>(written.size());
+            Set<Long> scorers = new HashSet<>();
+            for (LiveMatchEvent event : written) {
+                Match match = matchService.getMatchById(event.matchId());
+                matchService.refreshMatch(match);
+                matches.add(match);
+                results.add(event.result());
+                for (MatchResult.Goal goal : event.result().goals()) {
+                    scorers.add(goal.playerId());
+                }
+            }
+            playerService.refreshPlayers(scorers);
+            matchSimulator.applyResults(matches, results);
+        });
+    }
+
+    // What a polling dashboard sees, read from memory while matches are played
+    private static void printLiveNow() {
+        List<ActiveMatch> live = matchService.getOngoingMatches();
+        int goals = live.stream().mapToInt(match -> match.homeScore() + match.awayScore()).sum();
+        System.out.printf("Live now: %d matches, %d goals scored so far%n", live.size(), goals);
+    }
+
+    private static void runHeadlessSeason(SeasonRunner runner, Long leagueId, boolean homeAndAway, SimulationSeed seed) {
+        SeasonResult result = runner.run(leagueId, homeAndAway, seed);
+
+        System.out.println(result.leagueName() + " - Final Table");
+        printTable(result.table());
+
+        System.out.println("\nRounds: " + result.roundTimes().size() + ", matches: " + result.matchesPlayed());
+        for (int i = 0; i < result.roundTimes().size(); i++) {
+            System.out.printf("Round %2d: %8.3f ms%n", (i + 1), result.roundTimes().get(i).toNanos() / 1_000_000.0);
+        }
+        System.out.printf("Total: %.3f ms (%.3f ms per match)%n",
+                        result.totalTime().toNanos() / 1_000_000.0,
+                        result.averageMatchTime().toNanos() / 1_000_000.0);
+        printCacheStatistics();
+    }
+
+    private static void printCacheStatistics() {
+        System.out.println("\nCache: entity hits " + cacheStatisticsService.getEntityCacheHits() +
+                         ", misses " + cacheStatisticsService.getEntityCacheMisses() +
+                         "; query hits " + cacheStatisticsService.getQueryCacheHits() +
+                         ", misses " + cacheStatisticsService.getQueryCacheMisses());
+        for (CacheStatisticsService.RegionStatistics region : cacheStatisticsService.getRegionStatistics()) {
+            System.out.printf("  %-40s hits %6d | misses %6d | puts %6d | %5.1f%%%n",
+                            region.region(), region.hits(), region.misses(), region.puts(), region.hitRatio() * 100);
+        }
+    }
+
     private static void runMainMenu() {
         while (true) {
             System.out.println("\n=== SOCCER LEAGUE SIMULATOR ===");
@@ -97,7 +402,8 @@ public class Main {
             System.out.println("4) Start League Simulation");
             System.out.println("5) View League Table");
             System.out.println("6) View All Data");
-            System.out.println("7) Exit");
+            System.out.println("7) View Top Scorers");
+            System.out.println("8) Exit");
             System.out.print("Choose an option: ");
             
             int choice = getIntInput();
@@ -122,6 +428,9 @@ public class Main {
                     viewAllData();
                     break;
                 case 7:
+                    viewTopScorers();
+                    break;
+                case 8:
                     System.out.println("Goodbye!");
                     return;
                 default:
@@ -441,8 +750,8 @@ public class Main {
     private static void startLeagueSimulation() {
         System.out.println("\n=== START LEAGUE SIMULATION ===");
         
-        // Show available leagues
-        List<League> leagues = leagueService.getAllLeagues();
+        // Show available leagues with their readiness, from aggregate counts
+        List<LeagueReadiness> leagues = readinessService.getReadinessReport();
         if (leagues.isEmpty()) {
             System.out.println("No leagues available. Please create a league first!");
             return;
@@ -450,9 +759,9 @@ public class Main {
         
         System.out.println("Available leagues:");
         for (int i = 0; i < leagues.size(); i++) {
-            League league = leagues.get(i);
-            List<Team> teams = teamService.getTeamsByLeague(league.getId());
-            System.out.println((i + 1) + ") " + league.getName() + " (" + teams.size() + " teams)");
+            LeagueReadiness league = leagues.get(i);
+            System.out.println((i + 1) + ") " + league.leagueName() + " (" + league.teamCount() + " teams)"
+                               + (league.isReady() ? "" : " - not ready"));
         }
         
         System.out.print("Select league to simulate (number): ");
@@ -463,49 +772,35 @@ public class Main {
             return;
         }
         
-        League selectedLeague = leagues.get(leagueChoice - 1);
-        List<Team> teams = teamService.getTeamsByLeague(selectedLeague.getId());
-        
-        if (teams.size() < 2) {
-            System.out.println("League needs at least 2 teams to simulate!");
-            return;
-        }
-        
         // Validate constraints before simulation
-        if (teams.size() < 4 || teams.size() > 10) {
-            System.out.println("League must have between 4 and 10 teams to simulate.");
+        LeagueReadiness readiness = leagues.get(leagueChoice - 1);
+        if (!readiness.isReady()) {
+            readiness.problems().forEach(System.out::println);
             return;
         }
-        for (Team t : teams) {
-            int playerCount = playerService.getPlayersByTeam(t.getId()).size();
-            if (playerCount < 4 || playerCount > 5) {
-                System.out.println("Team '" + t.getName() + "' must have between 4 and 5 players. Current: " + playerCount);
-                return;
-            }
-        }
+        League selectedLeague = leagueService.getLeagueById(readiness.leagueId());
+        List<Team> teams = teamService.getTeamsByLeague(selectedLeague.getId());
+
+        System.out.print("Play home and away (y/n)? ");
+        boolean homeAndAway = scanner.nextLine().trim().equalsIgnoreCase("y");
 
         System.out.println("\nStarting simulation for '" + selectedLeague.getName() + "' with " + teams.size() + " teams...");
 
-        // Build single round-robin fixtures: each team plays others once
-        List<List<Team[]>> fixtures = buildRoundRobinFixtures(teams);
-        int totalRounds = fixtures.size();
+        FixtureSchedule schedule = new FixtureSchedule(teams.size(), homeAndAway);
+        int totalRounds = schedule.getRounds();
+        RosterSnapshot roster = RosterSnapshot.ofLeague(selectedLeague.getId(), playerService);
 
         for (int round = 1; round <= totalRounds; round++) {
             System.out.println("\n=== ROUND " + round + " ===");
-            
-            // Create matches for this round from fixtures
-            List<Match> roundMatches = new ArrayList<>();
-            List<Team[]> pairs = fixtures.get(round - 1);
-            boolean homeAwayFlip = (round % 2 == 0);
-            for (Team[] pair : pairs) {
-                Team homeTeam = homeAwayFlip ? pair[1] : pair[0];
-                Team awayTeam = homeAwayFlip ? pair[0] : pair[1];
-                Match match = new Match(homeTeam, awayTeam, selectedLeague);
-                matchService.createMatch(match);
-                roundMatches.add(match);
+            if (roster.isStale(playerService)) {
+                roster = RosterSnapshot.ofLeague(selectedLeague.getId(), playerService);
             }
             
+            // Create matches for this round from the schedule
+            List<Match> roundMatches = seasonRunner.createMatches(selectedLeague, teams, schedule, round - 1);
+            
             // Simulate each match
+            List<MatchResult> results = new ArrayList<>(roundMatches.size());
             for (Match match : roundMatches) {
                 System.out.println("\n" + match.getHomeTeam().getName() + " vs " + match.getAwayTeam().getName());
                 
@@ -513,7 +808,7 @@ public class Main {
                 scanner.nextLine();
                 
                 // Simulate match
-                simulateMatch(match);
+                results.add(simulateMatch(match, roster));
                 
                 // Display result
                 System.out.println("Result: " + match.getHomeTeam().getName() + " " + 
@@ -521,6 +816,9 @@ public class Main {
                                  match.getAwayTeam().getName());
             }
             
+            // Next round's ratings
+            roster = roster.withResults(roundMatches, results);
+
             // Show round results
             System.out.println("\n=== ROUND " + round + " RESULTS ===");
             viewLeagueTable(selectedLeague.getId());
@@ -540,103 +838,22 @@ public class Main {
         viewLeagueTable(selectedLeague.getId());
     }
 
-    private static List<List<Team[]>> buildRoundRobinFixtures(List<Team> inputTeams) {
-        List<Team> teams = new ArrayList<>(inputTeams);
-        // If odd number of teams, add a bye (null)
-        if (teams.size() % 2 != 0) {
-            teams.add(null);
-        }
-        int n = teams.size();
-        int rounds = n - 1;
-        List<List<Team[]>> allRounds = new ArrayList<>();
-
-        for (int r = 0; r < rounds; r++) {
-            List<Team[]> pairs = new ArrayList<>();
-            for (int i = 0; i < n / 2; i++) {
-                Team t1 = teams.get(i);
-                Team t2 = teams.get(n - 1 - i);
-                if (t1 != null && t2 != null) {
-                    pairs.add(new Team[] { t1, t2 });
-                }
-            }
-            allRounds.add(pairs);
-            // Rotate teams: keep first fixed, move last to index 1
-            Team last = teams.remove(n - 1);
-            teams.add(1, last);
-        }
-        return allRounds;
-    }
+    private static MatchResult simulateMatch(Match match, RosterSnapshot roster) {
+        MatchResult result = matchSimulator.simulate(match, roster);
 
-    private static void simulateMatch(Match match) {
-        // Start match
-        matchService.startMatch(match.getId());
-        
-        // Simulate match events
-        int homeGoals = 0;
-        int awayGoals = 0;
-        List<String> goalScorers = new ArrayList<>();
-        
-        // Get players for both teams
-        List<Player> homePlayers = playerService.getPlayersByTeam(match.getHomeTeam().getId());
-        List<Player> awayPlayers = playerService.getPlayersByTeam(match.getAwayTeam().getId());
-        
-        // Filter forwards and midfielders (more likely to score)
-        List<Player> homeAttackers = homePlayers.stream()
-            .filter(p -> p.getPosition() == PlayerPosition.FORWARD || p.getPosition() == PlayerPosition.MIDFIELDER)
-            .collect(Collectors.toList());
-        List<Player> awayAttackers = awayPlayers.stream()
-            .filter(p -> p.getPosition() == PlayerPosition.FORWARD || p.getPosition() == PlayerPosition.MIDFIELDER)
-            .collect(Collectors.toList());
-        
-        // Simulate 90 minutes with random events
-        for (int minute = 1; minute <= 90; minute++) {
-            // Random goal chance (5% per minute)
-            if (ThreadLocalRandom.current().nextDouble() < 0.05) {
-                // Determine which team scores (50/50 chance)
-                if (ThreadLocalRandom.current().nextBoolean()) {
-                    homeGoals++;
-                    // Select random attacker from home team
-                    Player scorer = homeAttackers.get(ThreadLocalRandom.current().nextInt(homeAttackers.size()));
-                    scorer.scoreGoal(); // Update player's goal count
-                    playerService.updatePlayer(scorer.getId(), scorer);
-                    goalScorers.add(scorer.getName() + " (" + minute + "')");
-                    System.out.println("GOAL! " + scorer.getName() + " scores for " + match.getHomeTeam().getName() + "! (" + minute + "')");
-                } else {
-                    awayGoals++;
-                    // Select random attacker from away team
-                    Player scorer = awayAttackers.get(ThreadLocalRandom.current().nextInt(awayAttackers.size()));
-                    scorer.scoreGoal(); // Update player's goal count
-                    playerService.updatePlayer(scorer.getId(), scorer);
-                    goalScorers.add(scorer.getName() + " (" + minute + "')");
-                    System.out.println("GOAL! " + scorer.getName() + " scores for " + match.getAwayTeam().getName() + "! (" + minute + "')");
-                }
-            }
-            
-            // Update match time
-            match.setMatchTime(minute);
+        for (MatchResult.Goal goal : result.goals()) {
+            Team scoringTeam = goal.home() ? match.getHomeTeam() : match.getAwayTeam();
+            System.out.println("GOAL! " + goal.playerName() + " scores for " + scoringTeam.getName() + "! (" + goal.minute() + "')");
         }
-        
-        // Update final score
-        matchService.updateMatchScore(match.getId(), homeGoals, awayGoals);
-        
-        // Finish match
-        matchService.finishMatch(match.getId());
-        
-        // Award points
-        if (homeGoals > awayGoals) {
-            // Home team wins
-            teamService.addPointsToTeam(match.getHomeTeam().getId(), 3);
+
+        if (result.isHomeWin()) {
             System.out.println(match.getHomeTeam().getName() + " wins! (3 points)");
-        } else if (awayGoals > homeGoals) {
-            // Away team wins
-            teamService.addPointsToTeam(match.getAwayTeam().getId(), 3);
+        } else if (result.isAwayWin()) {
             System.out.println(match.getAwayTeam().getName() + " wins! (3 points)");
         } else {
-            // Draw
-            teamService.addPointsToTeam(match.getHomeTeam().getId(), 1);
-            teamService.addPointsToTeam(match.getAwayTeam().getId(), 1);
             System.out.println("It's a draw! (1 point each)");
         }
+        return result;
     }
 
     private static void viewLeagueTable() {
@@ -655,61 +872,90 @@ public class Main {
 
     private static void viewLeagueTable(Long leagueId) {
         League league = leagueService.getLeagueById(leagueId);
-        List<Team> teams = teamService.getTeamsByLeague(leagueId);
-        
-        // Sort teams by points (descending)
-        teams.sort((t1, t2) -> Integer.compare(t2.getTotalPoints(), t1.getTotalPoints()));
+        LeagueStandings standings = leagueService.getStandings(leagueId);
         
         System.out.println("\n" + league.getName() + " - League Table");
-        System.out.println("Pos | Team | Coach | Points");
-        System.out.println("----|------|-------|-------");
+        printTable(standings.getTable());
+    }
+
+    private static void printTable(List<StandingRow> table) {
+        System.out.println("Pos | Team            |  P |  W |  D |  L |  GF |  GA |  GD | Pts");
+        System.out.println("----|-----------------|----|----|----|----|-----|-----|-----|----");
         
-        for (int i = 0; i < teams.size(); i++) {
-            Team team = teams.get(i);
-            System.out.printf("%2d  | %-15s | %-15s | %3d%n", 
+        for (int i = 0; i < table.size(); i++) {
+            StandingRow row = table.get(i);
+            System.out.printf("%2d  | %-15s | %2d | %2d | %2d | %2d | %3d | %3d | %+3d | %3d%n", 
                             (i + 1), 
-                            team.getName(), 
-                            team.getCoachName(), 
-                            team.getTotalPoints());
+                            row.getTeamName(), 
+                            row.getPlayed(), 
+                            row.getWins(), 
+                            row.getDraws(), 
+                            row.getLosses(), 
+                            row.getGoalsFor(), 
+                            row.getGoalsAgainst(), 
+                            row.getGoalDifference(), 
+                            row.getPoints());
+        }
+    }
+
+    private static void viewTopScorers() {
+        System.out.println("\n=== TOP SCORERS ===");
+        System.out.println("All leagues:");
+        printScorers(leaderboardService.getTopScorers(10));
+
+        for (LeagueSummary league : leagueService.getLeagueSummaries()) {
+            System.out.println("\n" + league.name() + ":");
+            printScorers(leaderboardService.getTopScorers(league.id(), 5));
+        }
+    }
+
+    private static void printScorers(List<TopScorer> scorers) {
+        if (scorers.isEmpty()) {
+            System.out.println("  No goals scored yet.");
+            return;
+        }
+        for (int i = 0; i < scorers.size(); i++) {
+            TopScorer scorer = scorers.get(i);
+            System.out.printf("%2d. %-25s %-15s %3d%n", (i + 1), scorer.playerName(), scorer.teamName(), scorer.goals());
         }
     }
 
     private static void viewAllData() {
         System.out.println("\n=== ALL DATA ===");
         
-        // Display all leagues
-        List<League> leagues = leagueService.getAllLeagues();
+        // Each section is a single projection query; no lazy loading per row
+        List<LeagueSummary> leagues = leagueService.getLeagueSummaries();
         System.out.println("Leagues:");
-        for (League league : leagues) {
-            System.out.println("  - " + league.getName() + " (ID: " + league.getId() + ")");
+        for (LeagueSummary league : leagues) {
+            System.out.println("  - " + league.name() + " (ID: " + league.id() + ")");
         }
         
         // Display all teams
-        List<Team> teams = teamService.getAllTeams();
+        List<TeamSummary> teams = teamService.getTeamSummaries();
         System.out.println("\nTeams:");
-        for (Team team : teams) {
-            System.out.println("  - " + team.getName() + " (Coach: " + team.getCoachName() + 
-                             ", League: " + team.getLeague().getName() + 
-                             ", Points: " + team.getTotalPoints() + ")");
+        for (TeamSummary team : teams) {
+            System.out.println("  - " + team.name() + " (Coach: " + team.coachName() + 
+                             ", League: " + team.leagueName() + 
+                             ", Points: " + team.totalPoints() + ")");
         }
         
         // Display all players
-        List<Player> players = playerService.getAllPlayers();
+        List<PlayerSummary> players = playerService.getPlayerSummaries();
         System.out.println("\nPlayers:");
-        for (Player player : players) {
-            System.out.println("  - " + player.getName() + " (" + player.getPosition() + 
-                             ", Team: " + player.getTeam().getName() + 
-                             ", Age: " + player.getAge() + 
-                             ", Goals: " + player.getGoalsScored() + ")");
+        for (PlayerSummary player : players) {
+            System.out.println("  - " + player.name() + " (" + player.position() + 
+                             ", Team: " + player.teamName() + 
+                             ", Age: " + player.age() + 
+                             ", Goals: " + player.goalsScored() + ")");
         }
         
         // Display all matches
-        List<Match> matches = matchService.getAllMatches();
+        List<MatchSummary> matches = matchService.getMatchSummaries();
         System.out.println("\nMatches:");
-        for (Match match : matches) {
-            System.out.println("  - " + match.getHomeTeam().getName() + " " + match.getHomeScore() + 
-                             " - " + match.getAwayScore() + " " + match.getAwayTeam().getName() + 
-                             " (" + match.getStatus() + ")");
+        for (MatchSummary match : matches) {
+            System.out.println("  - " + match.homeTeamName() + " " + match.homeScore() + 
+                             " - " + match.awayScore() + " " + match.awayTeamName() + 
+                             " (" + match.status() + ")");
         }
     }
 
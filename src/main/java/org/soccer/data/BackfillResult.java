@@ -0,0 +1,11 @@
+package org.soccer.data;
+
+import java.time.Duration;
+
+public record BackfillResult(int leagues, long teams, long matches, Duration elapsed) {
+
+    public double matchesPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : matches * 1_000_000_000.0 / nanos;
+    }
+}
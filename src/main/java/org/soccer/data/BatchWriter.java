@@ -0,0 +1,61 @@
+package org.soccer.data;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// Single-transaction bulk writer. The persistence context is flushed and cleared every
+// batchSize entities, so memory stays flat and each flush becomes one JDBC batch per table.
+// Closing without commit() rolls everything back.
+class BatchWriter implements AutoCloseable {
+    private final EntityManager em;
+    private final int batchSize;
+    private long pending;
+    private long written;
+
+    BatchWriter(EntityManagerFactory emf, int batchSize) {
+        this.em = emf.createEntityManager();
+        this.batchSize = batchSize;
+        Session session = em.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        // Bulk rows would only evict useful entries from the second-level cache
+        session.setCacheMode(CacheMode.IGNORE);
+        em.getTransaction().begin();
+    }
+
+    void persist(Object entity) {
+        em.persist(entity);
+        written++;
+        if (++pending == batchSize) {
+            em.flush();
+            em.clear();
+            pending = 0;
+        }
+    }
+
+    // Stand-in for an entity already written (and possibly cleared) in this import
+    <T> T reference(Class<T> type, Long id) {
+        return em.getReference(type, id);
+    }
+
+    long getWritten() {
+        return written;
+    }
+
+    void commit() {
+        em.getTransaction().commit();
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package org.soccer.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.soccer.enums.PlayerPosition;
+import org.soccer.models.League;
+import org.soccer.models.Player;
+import org.soccer.models.Team;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Streaming import of leagues, teams and players.
+// Input is checked against the league rules (4-10 teams, 4-5 players) before it is
+// written, and everything is written in one transaction through batched inserts.
+//
+// CSV input is three files with a header row each:
+//   leagues.csv  name
+//   teams.csv    league,name,coach
+//   players.csv  league,team,name,position,shirtNumber,age
+// JSON input is {"leagues": [{"name", "teams": [{"name", "coach", "players": [{"name",
+// "position", "shirtNumber", "age"}]}]}]}
+public class BulkImporter {
+    public static final int MIN_TEAMS = 4;
+    public static final int MAX_TEAMS = 10;
+    public static final int MIN_PLAYERS = 4;
+    public static final int MAX_PLAYERS = 5;
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 50;
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final EntityManagerFactory emf;
+    private final int batchSize;
+
+    public BulkImporter(EntityManagerFactory emf) {
+        this(emf, DEFAULT_BATCH_SIZE);
+    }
+
+    public BulkImporter(EntityManagerFactory emf, int batchSize) {
+        this.emf = emf;
+        this.batchSize = batchSize;
+    }
+
+    // Two streaming passes: the first validates keeping only names and counters,
+    // the second writes. Nothing is written if the first pass finds an error.
+    public ImportResult importCsv(Path leaguesFile, Path teamsFile, Path playersFile) {
+        long start = System.nanoTime();
+        Errors errors = new Errors();
+        Map<String, Integer> teamsPerLeague = new LinkedHashMap<>();
+        Map<String, Integer> playersPerTeam = new HashMap<>();
+
+        try (CsvReader leagues = new CsvReader(leaguesFile, 1)) {
+            for (List<String> row = leagues.next(); row != null; row = leagues.next()) {
+                if (!checkColumns(row, 1, leagues, errors)) {
+                    continue;
+                }
+                String name = row.get(0);
+                if (name.isEmpty()) {
+                    errors.add(leagues.location() + ": league name cannot be empty");
+                } else if (teamsPerLeague.putIfAbsent(name, 0) != null) {
+                    errors.add(leagues.location() + ": duplicate league '" + name + "'");
+                }
+            }
+        }
+        try (CsvReader teams = new CsvReader(teamsFile, 3)) {
+            for (List<String> row = teams.next(); row != null; row = teams.next()) {
+                if (!checkColumns(row, 3, teams, errors)) {
+                    continue;
+                }
+                String league = row.get(0);
+                if (!teamsPerLeague.containsKey(league)) {
+                    errors.add(teams.location() + ": unknown league '" + league + "'");
+                    continue;
+                }
+                validateTeam(teams.location(), row.get(1), row.get(2), errors);
+                if (playersPerTeam.putIfAbsent(teamKey(league, row.get(1)), 0) != null) {
+                    errors.add(teams.location() + ": duplicate team '" + row.get(1) + "' in '" + league + "'");
+                }
+                teamsPerLeague.merge(league, 1, Integer::sum);
+            }
+        }
+        try (CsvReader players = new CsvReader(playersFile, 6)) {
+            for (List<String> row = players.next(); row != null; row = players.next()) {
+                if (!checkColumns(row, 6, players, errors)) {
+                    continue;
+                }
+                String key = teamKey(row.get(0), row.get(1));
+                if (!playersPerTeam.containsKey(key)) {
+                    errors.add(players.location() + ": unknown team '" + row.get(1) + "' in '" + row.get(0) + "'");
+                    continue;
+                }
+                validatePlayer(players.location(), row.get(2), row.get(3), row.get(4), row.get(5), errors);
+                playersPerTeam.merge(key, 1, Integer::sum);
+            }
+        }
+        teamsPerLeague.forEach((league, count) -> checkTeamCount("league '" + league + "'", count, errors));
+        playersPerTeam.forEach((team, count) -> checkPlayerCount("team '" + team.replace('\n', '/') + "'", count, errors));
+        errors.throwIfAny();
+
+        int leagueCount = 0;
+        int teamCount = 0;
+        int playerCount = 0;
+        try (BatchWriter writer = new BatchWriter(emf, batchSize)) {
+            Map<String, Long> leagueIds = new HashMap<>();
+            try (CsvReader leagues = new CsvReader(leaguesFile, 1)) {
+                for (List<String> row = leagues.next(); row != null; row = leagues.next()) {
+                    League league = new League(row.get(0));
+                    writer.persist(league);
+                    leagueIds.put(row.get(0), league.getId());
+                    leagueCount++;
+                }
+            }
+            Map<String, Long> teamIds = new HashMap<>();
+            try (CsvReader teams = new CsvReader(teamsFile, 3)) {
+                for (List<String> row = teams.next(); row != null; row = teams.next()) {
+                    Team team = new Team(row.get(1), row.get(2));
+                    team.setLeague(writer.reference(League.class, leagueIds.get(row.get(0))));
+                    writer.persist(team);
+                    teamIds.put(teamKey(row.get(0), row.get(1)), team.getId());
+                    teamCount++;
+                }
+            }
+            try (CsvReader players = new CsvReader(playersFile, 6)) {
+                for (List<String> row = players.next(); row != null; row = players.next()) {
+                    Player player = newPlayer(row.get(2), row.get(3), row.get(4), row.get(5));
+                    player.setTeam(writer.reference(Team.class, teamIds.get(teamKey(row.get(0), row.get(1)))));
+                    writer.persist(player);
+                    playerCount++;
+                }
+            }
+            writer.commit();
+        }
+        return new ImportResult(leagueCount, teamCount, playerCount, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    // Single streaming pass: one league at a time is read into memory, validated and
+    // written. An invalid league aborts the import and rolls back earlier ones.
+    public ImportResult importJson(Path file) {
+        long start = System.nanoTime();
+        int leagueCount = 0;
+        int teamCount = 0;
+        int playerCount = 0;
+        Set<String> leagueNames = new HashSet<>();
+
+        try (JsonParser parser = JSON.createParser(file.toFile());
+             BatchWriter writer = new BatchWriter(emf, batchSize)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!field.equals("leagues")) {
+                    parser.skipChildren();
+                    continue;
+                }
+                expect(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    LeagueData league = readLeague(parser);
+                    Errors errors = new Errors();
+                    validateLeague(league, errors);
+                    if (league.name() != null && !leagueNames.add(league.name())) {
+                        errors.add("duplicate league '" + league.name() + "'");
+                    }
+                    errors.throwIfAny();
+
+                    League entity = new League(league.name());
+                    writer.persist(entity);
+                    leagueCount++;
+                    for (TeamData team : league.teams()) {
+                        Team teamEntity = new Team(team.name(), team.coach());
+                        teamEntity.setLeague(writer.reference(League.class, entity.getId()));
+                        writer.persist(teamEntity);
+                        teamCount++;
+                        for (PlayerData player : team.players()) {
+                            Player playerEntity = newPlayer(player.name(), player.position(),
+                                                            player.shirtNumber(), player.age());
+                            playerEntity.setTeam(writer.reference(Team.class, teamEntity.getId()));
+                            writer.persist(playerEntity);
+                            playerCount++;
+                        }
+                    }
+                }
+            }
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + file, e);
+        }
+        return new ImportResult(leagueCount, teamCount, playerCount, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    // Validation
+
+    private static void validateLeague(LeagueData league, Errors errors) {
+        String where = "league '" + league.name() + "'";
+        if (league.name() == null || league.name().isBlank()) {
+            errors.add("league name cannot be empty");
+        }
+        checkTeamCount(where, league.teams().size(), errors);
+        Set<String> teamNames = new HashSet<>();
+        for (TeamData team : league.teams()) {
+            String teamWhere = "team '" + league.name() + "/" + team.name() + "'";
+            validateTeam(teamWhere, team.name(), team.coach(), errors);
+            if (team.name() != null && !teamNames.add(team.name())) {
+                errors.add(teamWhere + ": duplicate team");
+            }
+            checkPlayerCount(teamWhere, team.players().size(), errors);
+            for (PlayerData player : team.players()) {
+                validatePlayer(teamWhere, player.name(), player.position(), player.shirtNumber(), player.age(), errors);
+            }
+        }
+    }
+
+    private static void validateTeam(String where, String name, String coach, Errors errors) {
+        if (name == null || name.isBlank()) {
+            errors.add(where + ": team name cannot be empty");
+        }
+        if (coach == null || coach.isBlank()) {
+            errors.add(where + ": coach name cannot be empty");
+        }
+    }
+
+    // Same limits as the interactive menu
+    private static void validatePlayer(String where, String name, String position, String shirtNumber, String age,
+                                       Errors errors) {
+        if (name == null || name.isBlank()) {
+            errors.add(where + ": player name cannot be empty");
+        }
+        if (parsePosition(position) == null) {
+            errors.add(where + ": invalid position '" + position + "'");
+        }
+        Integer shirt = parseInt(shirtNumber);
+        if (shirt == null || shirt < 1 || shirt > 99) {
+            errors.add(where + ": shirt number must be between 1 and 99");
+        }
+        Integer years = parseInt(age);
+        if (years == null || years < 16 || years > 50) {
+            errors.add(where + ": age must be between 16 and 50");
+        }
+    }
+
+    private static void checkTeamCount(String where, int count, Errors errors) {
+        if (count < MIN_TEAMS || count > MAX_TEAMS) {
+            errors.add(where + " has " + count + " teams (must be " + MIN_TEAMS + "-" + MAX_TEAMS + ")");
+        }
+    }
+
+    private static void checkPlayerCount(String where, int count, Errors errors) {
+        if (count < MIN_PLAYERS || count > MAX_PLAYERS) {
+            errors.add(where + " has " + count + " players (must be " + MIN_PLAYERS + "-" + MAX_PLAYERS + ")");
+        }
+    }
+
+    private static boolean checkColumns(List<String> row, int expected, CsvReader reader, Errors errors) {
+        if (row.size() != expected) {
+            errors.add(reader.location() + ": expected " + expected + " columns but found " + row.size());
+            return false;
+        }
+        return true;
+    }
+
+    // Helper methods
+
+    private static Player newPlayer(String name, String position, String shirtNumber, String age) {
+        return new Player(name, parsePosition(position), Integer.parseInt(shirtNumber.trim()), Integer.parseInt(age.trim()));
+    }
+
+    private static String teamKey(String league, String team) {
+        return league + '\n' + team;
+    }
+
+    private static PlayerPosition parsePosition(String position) {
+        if (position == null) {
+            return null;
+        }
+        try {
+            return PlayerPosition.valueOf(position.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Integer parseInt(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // JSON reading; values are kept as text so both formats share the validation
+
+    private record LeagueData(String name, List<TeamData> teams) {}
+
+    private record TeamData(String name, String coach, List<PlayerData> players) {}
+
+    private record PlayerData(String name, String position, String shirtNumber, String age) {}
+
+    private static LeagueData readLeague(JsonParser parser) throws IOException {
+        String name = null;
+        List<TeamData> teams = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "name" -> name = parser.getValueAsString();
+                case "teams" -> {
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        teams.add(readTeam(parser));
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new LeagueData(name, teams);
+    }
+
+    private static TeamData readTeam(JsonParser parser) throws IOException {
+        String name = null;
+        String coach = null;
+        List<PlayerData> players = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "name" -> name = parser.getValueAsString();
+                case "coach" -> coach = parser.getValueAsString();
+                case "players" -> {
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        players.add(readPlayer(parser));
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new TeamData(name, coach, players);
+    }
+
+    private static PlayerData readPlayer(JsonParser parser) throws IOException {
+        String name = null;
+        String position = null;
+        String shirtNumber = null;
+        String age = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "name" -> name = parser.getValueAsString();
+                case "position" -> position = parser.getValueAsString();
+                case "shirtNumber" -> shirtNumber = parser.getValueAsString();
+                case "age" -> age = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new PlayerData(name, position, shirtNumber, age);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new ImportValidationException(List.of("expected " + expected + " but found " + actual
+                                                        + " at " + parser.currentLocation()));
+        }
+    }
+
+    // Collects the first MAX_REPORTED_ERRORS messages and counts the rest
+    private static final class Errors {
+        private final List<String> messages = new ArrayList<>();
+        private int suppressed;
+
+        void add(String message) {
+            if (messages.size() < MAX_REPORTED_ERRORS) {
+                messages.add(message);
+            } else {
+                suppressed++;
+            }
+        }
+
+        void throwIfAny() {
+            if (!messages.isEmpty()) {
+                List<String> reported = new ArrayList<>(messages);
+                if (suppressed > 0) {
+                    reported.add("... and " + suppressed + " more");
+                }
+                throw new ImportValidationException(reported);
+            }
+        }
+    }
+}
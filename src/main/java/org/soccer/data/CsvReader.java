@@ -0,0 +1,92 @@
+package org.soccer.data;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Line-at-a-time CSV reader: header row, comma separated, double quotes for fields
+// containing commas or quotes. Fields may not span lines.
+class CsvReader implements Closeable {
+    private final Path path;
+    private final BufferedReader reader;
+    private int lineNumber;
+
+    CsvReader(Path path, int expectedColumns) {
+        this.path = path;
+        try {
+            this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open " + path, e);
+        }
+        List<String> header = next();
+        if (header == null || header.size() != expectedColumns) {
+            close();
+            throw new ImportValidationException(List.of(path.getFileName() + ": expected a header with "
+                                                        + expectedColumns + " columns"));
+        }
+    }
+
+    // Next non-blank row, or null at end of file
+    List<String> next() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    return parse(line);
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + path, e);
+        }
+    }
+
+    // Prefix for error messages about the row last returned
+    String location() {
+        return path.getFileName() + ":" + lineNumber;
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close " + path, e);
+        }
+    }
+
+    private static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
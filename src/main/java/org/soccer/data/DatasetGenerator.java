@@ -0,0 +1,213 @@
+package org.soccer.data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.soccer.enums.MatchStatus;
+import org.soccer.enums.PlayerPosition;
+import org.soccer.models.League;
+import org.soccer.models.Match;
+import org.soccer.models.Player;
+import org.soccer.models.Team;
+import org.soccer.models.TeamParticipation;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Synthetic leagues, teams, players and finished matches for load testing.
+// Each league is generated in memory from its own random stream, so a league's content
+// depends only on the seed and its index. Rows go through a StatelessSession: no
+// persistence context, no second-level cache, batched inserts.
+public class DatasetGenerator {
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+    // Leagues per transaction, to keep the undo log bounded on large datasets
+    private static final int LEAGUES_PER_COMMIT = 200;
+    // Mean goals per side, matching the simulator's 2.5% chance per side per minute
+    private static final double GOALS_PER_SIDE = 90 * 0.025;
+    private static final PlayerPosition[] LINE_UP = {
+        PlayerPosition.GOALKEEPER, PlayerPosition.DEFENDER, PlayerPosition.MIDFIELDER, PlayerPosition.FORWARD
+    };
+
+    private final EntityManagerFactory emf;
+    private final int batchSize;
+
+    public DatasetGenerator(EntityManagerFactory emf) {
+        this(emf, DEFAULT_BATCH_SIZE);
+    }
+
+    public DatasetGenerator(EntityManagerFactory emf, int batchSize) {
+        this.emf = emf;
+        this.batchSize = batchSize;
+    }
+
+    public GenerationResult generate(DatasetSpec spec) {
+        long start = System.nanoTime();
+        SplittableRandom root = new SplittableRandom(spec.seed());
+        long matches = 0;
+
+        try (StatelessSession session = emf.unwrap(SessionFactory.class).openStatelessSession()) {
+            session.setJdbcBatchSize(batchSize);
+            for (int first = 0; first < spec.leagues(); first += LEAGUES_PER_COMMIT) {
+                int last = Math.min(first + LEAGUES_PER_COMMIT, spec.leagues());
+                Rows rows = new Rows();
+                for (int index = first; index < last; index++) {
+                    generateLeague(spec, index, root.split(), rows);
+                }
+                insert(session, rows);
+                matches += rows.matches.size();
+            }
+        }
+
+        long teams = (long) spec.leagues() * spec.teamsPerLeague();
+        return new GenerationResult(spec.leagues(), teams, teams * spec.playersPerTeam(), matches,
+                                    Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    // One entity type at a time: switching types would cut every JDBC batch short
+    private static void insert(StatelessSession session, Rows rows) {
+        Transaction transaction = session.beginTransaction();
+        try {
+            rows.leagues.forEach(session::insert);
+            rows.teams.forEach(session::insert);
+            rows.players.forEach(session::insert);
+            rows.matches.forEach(session::insert);
+            rows.participations.forEach(session::insert);
+            transaction.commit();
+        } catch (RuntimeException e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    private static void generateLeague(DatasetSpec spec, int index, SplittableRandom random, Rows rows) {
+        int teamCount = spec.teamsPerLeague();
+        int playerCount = spec.playersPerTeam();
+
+        // Play the history first so points and goals can be inserted with their rows. Each
+        // season starts from zero, as after a season reset, so only the last one is carried.
+        int[][] scores = new int[(int) spec.matchesPerLeague()][2];
+        int[] points = new int[teamCount];
+        int[][] goals = new int[teamCount][playerCount];
+        int match = 0;
+        for (int season = 0; season < spec.seasons(); season++) {
+            Arrays.fill(points, 0);
+            for (int[] playerGoals : goals) {
+                Arrays.fill(playerGoals, 0);
+            }
+            for (int home = 0; home < teamCount; home++) {
+                for (int away = 0; away < teamCount; away++) {
+                    if (home == away) {
+                        continue;
+                    }
+                    int homeGoals = goals(random);
+                    int awayGoals = goals(random);
+                    scores[match][0] = homeGoals;
+                    scores[match][1] = awayGoals;
+                    match++;
+                    creditScorers(goals[home], homeGoals, random);
+                    creditScorers(goals[away], awayGoals, random);
+                    if (homeGoals > awayGoals) {
+                        points[home] += 3;
+                    } else if (homeGoals < awayGoals) {
+                        points[away] += 3;
+                    } else {
+                        points[home] += 1;
+                        points[away] += 1;
+                    }
+                }
+            }
+        }
+
+        League league = new League("League " + (index + 1));
+        // The league stands in its last generated season
+        league.setSeason(Math.max(1, spec.seasons()));
+        rows.leagues.add(league);
+        Team[] teams = new Team[teamCount];
+        for (int t = 0; t < teamCount; t++) {
+            Team team = new Team("Team " + (index + 1) + "-" + (t + 1), "Coach " + (index + 1) + "-" + (t + 1));
+            team.setLeague(league);
+            team.setTotalPoints(points[t]);
+            rows.teams.add(team);
+            teams[t] = team;
+            for (int p = 0; p < playerCount; p++) {
+                Player player = new Player("Player " + (index + 1) + "-" + (t + 1) + "-" + (p + 1),
+                                           position(p, random), shirtNumber(p, random), 17 + random.nextInt(20));
+                player.setGoalsScored(goals[t][p]);
+                player.setTeam(team);
+                rows.players.add(player);
+            }
+        }
+
+        match = 0;
+        for (int season = 0; season < spec.seasons(); season++) {
+            for (int home = 0; home < teamCount; home++) {
+                for (int away = 0; away < teamCount; away++) {
+                    if (home == away) {
+                        continue;
+                    }
+                    Match row = new Match(teams[home], teams[away], league);
+                    row.setSeason(season + 1);
+                    row.setHomeScore(scores[match][0]);
+                    row.setAwayScore(scores[match][1]);
+                    row.setMatchTime(90);
+                    row.setStatus(MatchStatus.FINISHED);
+                    rows.matches.add(row);
+                    rows.participations.add(new TeamParticipation(row, true));
+                    rows.participations.add(new TeamParticipation(row, false));
+                    match++;
+                }
+            }
+        }
+    }
+
+    // Rows of one commit, grouped by entity type
+    private static final class Rows {
+        private final List<League> leagues = new ArrayList<>();
+        private final List<Team> teams = new ArrayList<>();
+        private final List<Player> players = new ArrayList<>();
+        private final List<Match> matches = new ArrayList<>();
+        private final List<TeamParticipation> participations = new ArrayList<>();
+    }
+
+    // Helper methods
+
+    // Poisson sample by inversion
+    private static int goals(SplittableRandom random) {
+        double threshold = Math.exp(-GOALS_PER_SIDE);
+        double product = random.nextDouble();
+        int goals = 0;
+        while (product > threshold) {
+            product *= random.nextDouble();
+            goals++;
+        }
+        return goals;
+    }
+
+    // Only midfielders and forwards score, as in the simulator: slots 2 and 3, plus 4 when it is one
+    private static void creditScorers(int[] playerGoals, int goals, SplittableRandom random) {
+        int scorers = playerGoals.length == 5 ? 3 : 2;
+        for (int g = 0; g < goals; g++) {
+            playerGoals[2 + random.nextInt(scorers)]++;
+        }
+    }
+
+    // Four fixed slots, the fifth player is an extra midfielder or forward
+    private static PlayerPosition position(int slot, SplittableRandom random) {
+        if (slot < LINE_UP.length) {
+            return LINE_UP[slot];
+        }
+        return random.nextBoolean() ? PlayerPosition.MIDFIELDER : PlayerPosition.FORWARD;
+    }
+
+    // Goalkeeper wears 1, the others draw from disjoint ranges so numbers never clash
+    private static int shirtNumber(int slot, SplittableRandom random) {
+        return slot == 0 ? 1 : 2 + (slot - 1) * 20 + random.nextInt(20);
+    }
+}
@@ -0,0 +1,57 @@
+package org.soccer.data;
+
+// Shape of a generated dataset. The same spec and seed always produce the same rows.
+public record DatasetSpec(int leagues, int teamsPerLeague, int playersPerTeam, int seasons, long seed) {
+
+    public static final long DEFAULT_SEED = 42L;
+
+    public DatasetSpec {
+        if (leagues < 1) {
+            throw new IllegalArgumentException("At least one league is required");
+        }
+        if (teamsPerLeague < BulkImporter.MIN_TEAMS || teamsPerLeague > BulkImporter.MAX_TEAMS) {
+            throw new IllegalArgumentException("Teams per league must be between " + BulkImporter.MIN_TEAMS
+                                               + " and " + BulkImporter.MAX_TEAMS);
+        }
+        if (playersPerTeam < BulkImporter.MIN_PLAYERS || playersPerTeam > BulkImporter.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Players per team must be between " + BulkImporter.MIN_PLAYERS
+                                               + " and " + BulkImporter.MAX_PLAYERS);
+        }
+        if (seasons < 0) {
+            throw new IllegalArgumentException("Seasons cannot be negative");
+        }
+    }
+
+    // 1k teams, 5k players, 9k matches
+    public static DatasetSpec small() {
+        return new DatasetSpec(100, 10, 5, 1, DEFAULT_SEED);
+    }
+
+    // 20k teams, 100k players, 360k matches
+    public static DatasetSpec medium() {
+        return new DatasetSpec(2_000, 10, 5, 2, DEFAULT_SEED);
+    }
+
+    // 200k teams, 1M players, 1.8M matches
+    public static DatasetSpec large() {
+        return new DatasetSpec(20_000, 10, 5, 1, DEFAULT_SEED);
+    }
+
+    public static DatasetSpec named(String name) {
+        return switch (name) {
+            case "small" -> small();
+            case "medium" -> medium();
+            case "large" -> large();
+            default -> throw new IllegalArgumentException("Unknown dataset size: " + name);
+        };
+    }
+
+    public DatasetSpec withSeed(long seed) {
+        return new DatasetSpec(leagues, teamsPerLeague, playersPerTeam, seasons, seed);
+    }
+
+    public long matchesPerLeague() {
+        // Double round robin per season
+        return (long) seasons * teamsPerLeague * (teamsPerLeague - 1);
+    }
+}
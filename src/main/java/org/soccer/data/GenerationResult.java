@@ -0,0 +1,11 @@
+package org.soccer.data;
+
+import java.time.Duration;
+
+public record GenerationResult(int leagues, long teams, long players, long matches, Duration elapsed) {
+
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : (leagues + teams + players + matches) * 1_000_000_000.0 / nanos;
+    }
+}
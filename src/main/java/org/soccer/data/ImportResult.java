@@ -0,0 +1,11 @@
+package org.soccer.data;
+
+import java.time.Duration;
+
+public record ImportResult(int leagues, int teams, int players, Duration elapsed) {
+
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : (leagues + teams + players) * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,20 @@
+package org.soccer.data;
+
+import java.util.List;
+
+// Thrown before anything is written when the input breaks a league rule
+public class ImportValidationException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    // Kept as an array so the errors survive serialization with the exception
+    private final String[] errors;
+
+    public ImportValidationException(List<String> errors) {
+        super("Import rejected with " + errors.size() + " error(s): " + String.join("; ", errors));
+        this.errors = errors.toArray(String[]::new);
+    }
+
+    public List<String> getErrors() {
+        return List.of(errors);
+    }
+}
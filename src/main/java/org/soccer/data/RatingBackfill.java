@@ -0,0 +1,218 @@
+package org.soccer.data;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.soccer.enums.MatchStatus;
+import org.soccer.models.Match;
+import org.soccer.models.Team;
+import org.soccer.models.TeamRatingHistory;
+import org.soccer.services.RatingService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Rebuilds every team rating and the whole rating history from the finished matches.
+// Only for backfills (imported or generated results, a changed K factor): normal play
+// updates ratings one match at a time. Teams never meet outside their league, so each
+// league is replayed independently and in parallel, in match id order.
+public class RatingBackfill {
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+    // Matches whose history rows share a transaction, to keep the undo log bounded
+    private static final int MATCHES_PER_COMMIT = 50_000;
+
+    private final EntityManagerFactory emf;
+    private final int batchSize;
+
+    public RatingBackfill(EntityManagerFactory emf) {
+        this(emf, DEFAULT_BATCH_SIZE);
+    }
+
+    public RatingBackfill(EntityManagerFactory emf, int batchSize) {
+        this.emf = emf;
+        this.batchSize = batchSize;
+    }
+
+    public BackfillResult recompute() {
+        long start = System.nanoTime();
+        long teams;
+        Results results;
+
+        try (StatelessSession session = emf.unwrap(SessionFactory.class).openStatelessSession()) {
+            session.setJdbcBatchSize(batchSize);
+            results = load(session);
+            IntStream.range(0, results.leagueCount).parallel().forEach(results::replayLeague);
+            writeHistory(session, results);
+            teams = writeRatings(session, results.finalRatings());
+        }
+        // The stateless session bypassed the second-level cache
+        emf.getCache().evict(Team.class);
+
+        return new BackfillResult(results.leagueCount, teams, results.size, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    // Finished matches as primitive columns, grouped by league and in play order within it
+    private static Results load(StatelessSession session) {
+        return inTransaction(session, () -> {
+            long count = session.createSelectionQuery(
+                    "SELECT COUNT(m) FROM Match m WHERE m.status = :status", Long.class)
+                    .setParameter("status", MatchStatus.FINISHED)
+                    .getSingleResult();
+            Results results = new Results(Math.toIntExact(count));
+            try (Stream<Object[]> rows = session.createSelectionQuery(
+                    "SELECT m.id, m.league.id, m.homeTeam.id, m.awayTeam.id, m.homeScore, m.awayScore " +
+                    "FROM Match m WHERE m.status = :status ORDER BY m.league.id, m.id", Object[].class)
+                    .setParameter("status", MatchStatus.FINISHED)
+                    .getResultStream()) {
+                rows.limit(count).forEach(results::add);
+            }
+            results.indexLeagues();
+            return results;
+        });
+    }
+
+    private static void writeHistory(StatelessSession session, Results results) {
+        inTransaction(session, () -> session.createMutationQuery("DELETE FROM TeamRatingHistory").executeUpdate());
+        for (int first = 0; first < results.size; first += MATCHES_PER_COMMIT) {
+            int from = first;
+            int to = Math.min(first + MATCHES_PER_COMMIT, results.size);
+            inTransaction(session, () -> {
+                for (int i = from; i < to; i++) {
+                    Match match = matchReference(results.matchIds[i]);
+                    double change = results.homeChange[i];
+                    session.insert(new TeamRatingHistory(teamReference(results.homeTeamIds[i]), match,
+                                                         results.homeRating[i], change));
+                    session.insert(new TeamRatingHistory(teamReference(results.awayTeamIds[i]), match,
+                                                         results.awayRating[i], -change));
+                }
+                return null;
+            });
+        }
+    }
+
+    // Every team is written, so teams without a finished match fall back to the initial rating
+    private static long writeRatings(StatelessSession session, Map<Long, Double> ratings) {
+        return inTransaction(session, () -> {
+            long teams = 0;
+            List<Team> all = session.createSelectionQuery("SELECT t FROM Team t ORDER BY t.id", Team.class).getResultList();
+            for (Team team : all) {
+                team.setRating(ratings.getOrDefault(team.getId(), Team.INITIAL_RATING));
+                session.update(team);
+                teams++;
+            }
+            return teams;
+        });
+    }
+
+    // Columns of the finished matches; replay fills the rating columns in place
+    private static final class Results {
+        final long[] matchIds;
+        final long[] leagueIds;
+        final long[] homeTeamIds;
+        final long[] awayTeamIds;
+        final int[] homeGoals;
+        final int[] awayGoals;
+        final double[] homeRating; // after the match
+        final double[] awayRating;
+        final double[] homeChange;
+        int[] leagueStarts; // leagueStarts[l] until leagueStarts[l + 1] is league l
+        int leagueCount;
+        int size;
+
+        Results(int capacity) {
+            this.matchIds = new long[capacity];
+            this.leagueIds = new long[capacity];
+            this.homeTeamIds = new long[capacity];
+            this.awayTeamIds = new long[capacity];
+            this.homeGoals = new int[capacity];
+            this.awayGoals = new int[capacity];
+            this.homeRating = new double[capacity];
+            this.awayRating = new double[capacity];
+            this.homeChange = new double[capacity];
+        }
+
+        void add(Object[] row) {
+            matchIds[size] = (Long) row[0];
+            leagueIds[size] = (Long) row[1];
+            homeTeamIds[size] = (Long) row[2];
+            awayTeamIds[size] = (Long) row[3];
+            homeGoals[size] = (Integer) row[4];
+            awayGoals[size] = (Integer) row[5];
+            size++;
+        }
+
+        void indexLeagues() {
+            int[] starts = new int[size + 1];
+            int leagues = 0;
+            for (int i = 0; i < size; i++) {
+                if (i == 0 || leagueIds[i] != leagueIds[i - 1]) {
+                    starts[leagues++] = i;
+                }
+            }
+            starts[leagues] = size;
+            leagueStarts = starts;
+            leagueCount = leagues;
+        }
+
+        // Touches only the league's own slice, so leagues can be replayed concurrently
+        void replayLeague(int league) {
+            Map<Long, Double> ratings = new HashMap<>();
+            for (int i = leagueStarts[league]; i < leagueStarts[league + 1]; i++) {
+                double home = ratings.getOrDefault(homeTeamIds[i], Team.INITIAL_RATING);
+                double away = ratings.getOrDefault(awayTeamIds[i], Team.INITIAL_RATING);
+                double change = RatingService.ratingChange(home, away, homeGoals[i], awayGoals[i]);
+                homeChange[i] = change;
+                homeRating[i] = home + change;
+                awayRating[i] = away - change;
+                ratings.put(homeTeamIds[i], homeRating[i]);
+                ratings.put(awayTeamIds[i], awayRating[i]);
+            }
+        }
+
+        // Each team's rating after its last match
+        Map<Long, Double> finalRatings() {
+            Map<Long, Double> ratings = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                ratings.put(homeTeamIds[i], homeRating[i]);
+                ratings.put(awayTeamIds[i], awayRating[i]);
+            }
+            return ratings;
+        }
+    }
+
+    // Helper methods
+
+    private static <T> T inTransaction(StatelessSession session, Supplier<T> work) {
+        Transaction transaction = session.beginTransaction();
+        try {
+            T result = work.get();
+            transaction.commit();
+            return result;
+        } catch (RuntimeException e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    // Detached stand-ins carrying only the id, which is all an insert needs for a foreign key
+    private static Team teamReference(long id) {
+        Team team = new Team();
+        team.setId(id);
+        return team;
+    }
+
+    private static Match matchReference(long id) {
+        Match match = new Match();
+        match.setId(id);
+        return match;
+    }
+}
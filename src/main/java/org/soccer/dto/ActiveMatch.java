@@ -0,0 +1,14 @@
+package org.soccer.dto;
+
+import org.soccer.enums.MatchStatus;
+
+// A scheduled or ongoing match as held by the live-match registry: ids and names only,
+// so it can be shared between threads and outlive any EntityManager
+public record ActiveMatch(Long id, Long leagueId, Long homeTeamId, String homeTeamName, Long awayTeamId,
+                          String awayTeamName, MatchStatus status, int minute, int homeScore, int awayScore) {
+
+    public ActiveMatch withScore(int minute, int homeScore, int awayScore) {
+        return new ActiveMatch(id, leagueId, homeTeamId, homeTeamName, awayTeamId, awayTeamName,
+                               status, minute, homeScore, awayScore);
+    }
+}
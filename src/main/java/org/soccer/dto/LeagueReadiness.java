@@ -0,0 +1,15 @@
+package org.soccer.dto;
+
+import java.util.List;
+
+// Whether a league meets the simulation preconditions, and why not
+public record LeagueReadiness(Long leagueId, String leagueName, int teamCount, List<String> problems) {
+
+    public LeagueReadiness {
+        problems = List.copyOf(problems);
+    }
+
+    public boolean isReady() {
+        return problems.isEmpty();
+    }
+}
@@ -0,0 +1,4 @@
+package org.soccer.dto;
+
+// Read-only league row for reports
+public record LeagueSummary(Long id, String name) {}
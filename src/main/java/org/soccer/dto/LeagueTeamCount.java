@@ -0,0 +1,4 @@
+package org.soccer.dto;
+
+// Number of teams in a league, leagues without teams included
+public record LeagueTeamCount(Long leagueId, String leagueName, long teamCount) {}
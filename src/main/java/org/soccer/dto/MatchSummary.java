@@ -0,0 +1,7 @@
+package org.soccer.dto;
+
+import org.soccer.enums.MatchStatus;
+
+// Read-only match row with both team names already resolved
+public record MatchSummary(Long id, String homeTeamName, int homeScore, int awayScore, String awayTeamName,
+                           MatchStatus status) {}
@@ -0,0 +1,6 @@
+package org.soccer.dto;
+
+import org.soccer.enums.PlayerPosition;
+
+// Read-only player row with its team name already resolved
+public record PlayerSummary(Long id, String name, PlayerPosition position, String teamName, int age, int goalsScored) {}
@@ -0,0 +1,7 @@
+package org.soccer.dto;
+
+import org.soccer.enums.PlayerPosition;
+
+// The fields of a player the simulation needs, without the entity; the team's rating rides along
+public record RosterEntry(Long playerId, String playerName, PlayerPosition position, Long teamId,
+                          double teamRating) {}
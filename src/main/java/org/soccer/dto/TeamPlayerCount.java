@@ -0,0 +1,4 @@
+package org.soccer.dto;
+
+// Number of players in a team, teams without players included
+public record TeamPlayerCount(Long teamId, String teamName, Long leagueId, long playerCount) {}
@@ -0,0 +1,4 @@
+package org.soccer.dto;
+
+// Read-only team row with its league name already resolved
+public record TeamSummary(Long id, String name, String coachName, String leagueName, int totalPoints) {}
@@ -0,0 +1,4 @@
+package org.soccer.dto;
+
+// One leaderboard line: a player's goal total with the team and league it counts for
+public record TopScorer(Long playerId, String playerName, Long teamId, String teamName, Long leagueId, int goals) {}
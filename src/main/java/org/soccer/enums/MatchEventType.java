@@ -0,0 +1,5 @@
+package org.soccer.enums;
+
+public enum MatchEventType {
+    GOAL, FULL_TIME
+}
@@ -0,0 +1,5 @@
+package org.soccer.enums;
+
+public enum MatchOutcome {
+    WIN, DRAW, LOSS
+}
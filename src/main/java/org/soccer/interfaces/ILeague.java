@@ -3,11 +3,17 @@ package org.soccer.interfaces;
 import org.soccer.models.League;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ILeague {
     League createLeague(League league);
     League updateLeague(Long id, League league);
     void deleteLeague(Long id);
+    void resetSeason(Long id);
     League getLeagueById(Long id);
     List<League> getAllLeagues();
+
+    // Constant-memory reads; returned entities are detached
+    List<League> getLeaguesAfter(Long afterId, int limit);
+    Stream<League> streamAllLeagues();
 }
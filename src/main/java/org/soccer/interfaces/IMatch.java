@@ -2,6 +2,7 @@ package org.soccer.interfaces;
 
 import org.soccer.models.Match;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface IMatch {
     Match createMatch(Match match);
@@ -10,6 +11,10 @@ public interface IMatch {
     Match getMatchById(Long id);
     List<Match> getAllMatches();
 
+    // Constant-memory reads; returned entities are detached
+    List<Match> getMatchesAfter(Long afterId, int limit);
+    Stream<Match> streamAllMatches();
+
     // Helper methods
     List<Match> getMatchesByTeam(Long teamId);
     List<Match> getMatchesByTournament(Long tournamentId);
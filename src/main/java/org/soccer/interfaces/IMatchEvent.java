@@ -0,0 +1,10 @@
+package org.soccer.interfaces;
+
+import org.soccer.models.MatchEvent;
+
+import java.util.List;
+
+public interface IMatchEvent {
+    void recordEvents(List<MatchEvent> events);
+    List<MatchEvent> getEventsByMatch(Long matchId);
+}
@@ -3,6 +3,7 @@ package org.soccer.interfaces;
 import org.soccer.models.Player;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface IPlayer {
     Player createPlayer(Player player);
@@ -10,4 +11,8 @@ public interface IPlayer {
     void deletePlayer(Long id);
     Player getPlayerById(Long id);
     List<Player> getAllPlayers();
+
+    // Constant-memory reads; returned entities are detached
+    List<Player> getPlayersAfter(Long afterId, int limit);
+    Stream<Player> streamAllPlayers();
 }
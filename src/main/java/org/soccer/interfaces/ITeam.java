@@ -2,6 +2,7 @@ package org.soccer.interfaces;
 
 import org.soccer.models.Team;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ITeam {
     Team createTeam(Team team);
@@ -9,4 +10,8 @@ public interface ITeam {
     void deleteTeam(Long id);
     Team getTeamById(Long id);
     List<Team> getAllTeams();
+
+    // Constant-memory reads; returned entities are detached
+    List<Team> getTeamsAfter(Long afterId, int limit);
+    Stream<Team> streamAllTeams();
 }
@@ -2,8 +2,8 @@ package org.soccer.models;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,21 +11,31 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "leagues")
 public class League {
 
     // Attributes
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leagues_seq")
+    @SequenceGenerator(name = "leagues_seq", sequenceName = "leagues_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private String name;
 
+    // Starts at 1 and moves on with every season reset; matches record the season they belong to
+    @Column(nullable = false)
+    private int season = 1;
+
     @OneToMany(mappedBy = "league", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Team> teams = new ArrayList<>();
 
@@ -33,9 +43,9 @@ public class League {
     @OneToMany(mappedBy = "league", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Match> matches = new ArrayList<>();
 
-    // Standings are not persisted directly; calculate or store in a separate entity if needed
+    // Standings are not persisted; built from finished matches and then kept up to date
     @Transient
-    private Map<Team, Integer> standings; // Team points
+    private LeagueStandings standings = new LeagueStandings();
 
     // Constructors
     public League() {}
@@ -62,6 +72,14 @@ public class League {
         this.name = name;
     }
 
+    public int getSeason() {
+        return season;
+    }
+
+    public void setSeason(int season) {
+        this.season = season;
+    }
+
     public List<Team> getTeams() {
         return teams;
     }
@@ -78,11 +96,11 @@ public class League {
         this.matches = matches;
     }
 
-    public Map<Team, Integer> getStandings() {
+    public LeagueStandings getStandings() {
         return standings;
     }
 
-    public void setStandings(Map<Team, Integer> standings) {
+    public void setStandings(LeagueStandings standings) {
         this.standings = standings;
     }
 
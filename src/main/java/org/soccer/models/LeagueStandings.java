@@ -0,0 +1,91 @@
+package org.soccer.models;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// League table kept in ranking order as results come in.
+// A result touches two rows: each is removed from the ordered set, updated and
+// re-inserted, so recording costs O(log n) and reading the table needs no sort.
+public class LeagueStandings {
+
+    // Points, then goal difference, then goals scored; name and id keep the order total
+    private static final Comparator<StandingRow> TABLE_ORDER = Comparator
+            .comparingInt(StandingRow::getPoints).reversed()
+            .thenComparing(Comparator.comparingInt(StandingRow::getGoalDifference).reversed())
+            .thenComparing(Comparator.comparingInt(StandingRow::getGoalsFor).reversed())
+            .thenComparing(StandingRow::getTeamName)
+            .thenComparing(StandingRow::getTeamId);
+
+    private final Map<Long, StandingRow> rowsByTeam = new HashMap<>();
+    private final TreeSet<StandingRow> table = new TreeSet<>(TABLE_ORDER);
+    private boolean initialized;
+
+    // Rebuilds the table from scratch; afterwards it is maintained incrementally
+    public void initialize(List<Team> teams, List<Match> finishedMatches) {
+        rowsByTeam.clear();
+        table.clear();
+        for (Team team : teams) {
+            addTeam(team);
+        }
+        for (Match match : finishedMatches) {
+            record(match);
+        }
+        initialized = true;
+    }
+
+    // Drops every row, e.g. when a new season starts; the next read rebuilds the table
+    public void reset() {
+        rowsByTeam.clear();
+        table.clear();
+        initialized = false;
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    public void addTeam(Team team) {
+        if (!rowsByTeam.containsKey(team.getId())) {
+            StandingRow row = new StandingRow(team.getId(), team.getName());
+            rowsByTeam.put(team.getId(), row);
+            table.add(row);
+        }
+    }
+
+    // Ignored until the table has been initialized; the rebuild will pick the result up
+    public void recordResult(Match match) {
+        if (initialized) {
+            record(match);
+        }
+    }
+
+    public List<StandingRow> getTable() {
+        return new ArrayList<>(table);
+    }
+
+    public StandingRow getRow(Long teamId) {
+        return rowsByTeam.get(teamId);
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    // Helper methods
+    private void record(Match match) {
+        update(match.getHomeTeam(), match.getHomeScore(), match.getAwayScore());
+        update(match.getAwayTeam(), match.getAwayScore(), match.getHomeScore());
+    }
+
+    private void update(Team team, int scored, int conceded) {
+        addTeam(team);
+        StandingRow row = rowsByTeam.get(team.getId());
+        table.remove(row);
+        row.record(scored, conceded);
+        table.add(row);
+    }
+}
@@ -8,18 +8,27 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import org.soccer.enums.MatchOutcome;
 import org.soccer.enums.MatchStatus;
 
 @Entity
-@Table(name = "matches")
+@Table(name = "matches",
+       indexes = {
+           @Index(name = "idx_matches_league_status", columnList = "league_id, season, status"),
+           // Finished matches dominate, so the few scheduled and ongoing ones are a short range
+           @Index(name = "idx_matches_status", columnList = "status")
+       })
 public class Match {
 
     // Attributes
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matches_seq")
+    @SequenceGenerator(name = "matches_seq", sequenceName = "matches_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -47,6 +56,9 @@ public class Match {
     @JoinColumn(name = "league_id", nullable = false)
     private League league;
 
+    @Column(nullable = false)
+    private int season = 1; // the league's season when the match was scheduled
+
     // Constructors
     public Match() {}
 
@@ -54,6 +66,7 @@ public class Match {
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
         this.league = league;
+        this.season = league.getSeason();
         this.status = MatchStatus.SCHEDULED;
     }
 
@@ -122,7 +135,24 @@ public class Match {
         this.league = league;
     }
 
+    public int getSeason() {
+        return season;
+    }
+
+    public void setSeason(int season) {
+        this.season = season;
+    }
+
     // Helper methods
     public void startMatch() { this.status = MatchStatus.ONGOING; this.matchTime = 0; }
     public void playMinute() { if(status == MatchStatus.ONGOING && matchTime < 90) matchTime++; }
+
+    // Result from one side's point of view; null until the match is finished
+    public MatchOutcome outcomeFor(boolean home) {
+        if (status != MatchStatus.FINISHED) {
+            return null;
+        }
+        int difference = home ? homeScore - awayScore : awayScore - homeScore;
+        return difference > 0 ? MatchOutcome.WIN : difference == 0 ? MatchOutcome.DRAW : MatchOutcome.LOSS;
+    }
 }
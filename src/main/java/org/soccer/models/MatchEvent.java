@@ -0,0 +1,109 @@
+package org.soccer.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.soccer.enums.MatchEventType;
+
+// Append-only log entry; rows are written once and never updated
+@Entity
+@Immutable
+@Table(name = "match_events",
+       indexes = @Index(name = "idx_match_events_match_minute", columnList = "match_id, event_minute"))
+public class MatchEvent {
+
+    // Attributes
+    // Sequence ids (unlike IDENTITY) let Hibernate batch the inserts
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_events_seq")
+    @SequenceGenerator(name = "match_events_seq", sequenceName = "match_events_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "match_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Match match;
+
+    @Column(name = "event_minute", nullable = false, updatable = false) // MINUTE is reserved in H2
+    private int minute;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private MatchEventType type;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Team team; // Scoring team; null for whole-match events
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id", updatable = false)
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Player player; // Scorer; kept as null if the player is later deleted
+
+    @Column(nullable = false, updatable = false)
+    private int homeScore; // Score after the event
+
+    @Column(nullable = false, updatable = false)
+    private int awayScore;
+
+    // Constructors
+    public MatchEvent() {}
+
+    public MatchEvent(Match match, int minute, MatchEventType type, Team team, Player player,
+                      int homeScore, int awayScore) {
+        this.match = match;
+        this.minute = minute;
+        this.type = type;
+        this.team = team;
+        this.player = player;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Match getMatch() {
+        return match;
+    }
+
+    public int getMinute() {
+        return minute;
+    }
+
+    public MatchEventType getType() {
+        return type;
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+}
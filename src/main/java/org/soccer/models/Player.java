@@ -1,17 +1,29 @@
 package org.soccer.models;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.soccer.enums.PlayerPosition;
 
 @Entity
-@Table(name = "players")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "players",
+       indexes = {
+           @Index(name = "idx_players_team", columnList = "team_id"),
+           @Index(name = "idx_players_goals", columnList = "goalsScored DESC, id") // top scorers
+       })
 public class Player {
 
     // Attributes
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_seq")
+    @SequenceGenerator(name = "players_seq", sequenceName = "players_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private long version; // optimistic lock; also bumped by the atomic goal updates
+
     @Column(nullable = false)  // Correct way to mark non-null
     private String name;
 
@@ -52,6 +64,10 @@ public class Player {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public String getName() {
         return name;
     }
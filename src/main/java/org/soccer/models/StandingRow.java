@@ -0,0 +1,79 @@
+package org.soccer.models;
+
+// One team's line in the league table; mutated only through LeagueStandings
+public class StandingRow {
+
+    // Attributes
+    private final Long teamId;
+    private final String teamName;
+    private int played;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsFor;
+    private int goalsAgainst;
+    private int points;
+
+    // Constructors
+    public StandingRow(Long teamId, String teamName) {
+        this.teamId = teamId;
+        this.teamName = teamName;
+    }
+
+    // Getters
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public int getPlayed() {
+        return played;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public int getGoalsFor() {
+        return goalsFor;
+    }
+
+    public int getGoalsAgainst() {
+        return goalsAgainst;
+    }
+
+    public int getGoalDifference() {
+        return goalsFor - goalsAgainst;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    // Helper methods
+    void record(int scored, int conceded) {
+        played++;
+        goalsFor += scored;
+        goalsAgainst += conceded;
+        if (scored > conceded) {
+            wins++;
+            points += 3;
+        } else if (scored == conceded) {
+            draws++;
+            points += 1;
+        } else {
+            losses++;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.soccer.models;
 import java.util.ArrayList;
 import java.util.List;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,21 +11,33 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "teams")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "teams", indexes = @Index(name = "idx_teams_league", columnList = "league_id"))
 public class Team {
+    public static final double INITIAL_RATING = 1500.0;
 
     // Attributes
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teams_seq")
+    @SequenceGenerator(name = "teams_seq", sequenceName = "teams_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private long version; // optimistic lock; also bumped by the atomic counter updates
+
     @Column(nullable = false)
     private String name;
 
@@ -37,6 +50,9 @@ public class Team {
 
     private int score; // current match score
 
+    @Column(nullable = false)
+    private double rating = INITIAL_RATING; // Elo strength, moved by every finished match
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "league_id", nullable = false)
     private League league; // Many-to-One relationship with League
@@ -64,6 +80,10 @@ public class Team {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public String getName() {
         return name;
     }
@@ -104,6 +124,14 @@ public class Team {
         this.totalPoints = totalPoints;
     }
 
+    public double getRating() {
+        return rating;
+    }
+
+    public void setRating(double rating) {
+        this.rating = rating;
+    }
+
     public League getLeague() {
         return league;
     }
@@ -0,0 +1,82 @@
+package org.soccer.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.soccer.enums.MatchOutcome;
+
+// One row per side of a match, so a team's fixtures are a range of the (team_id, match_id)
+// index instead of an OR over both team columns of matches. Kept in step by MatchRepository.
+@Entity
+@Table(name = "team_participations",
+       indexes = {
+           @Index(name = "idx_team_participations_team_match", columnList = "team_id, match_id", unique = true),
+           @Index(name = "idx_team_participations_match", columnList = "match_id")
+       })
+public class TeamParticipation {
+
+    // Attributes
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_participations_seq")
+    @SequenceGenerator(name = "team_participations_seq", sequenceName = "team_participations_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "team_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Team team;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "match_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Match match;
+
+    @Column(nullable = false, updatable = false)
+    private boolean home;
+
+    @Enumerated(EnumType.STRING)
+    private MatchOutcome result; // null until the match is finished
+
+    // Constructors
+    public TeamParticipation() {}
+
+    public TeamParticipation(Match match, boolean home) {
+        this.match = match;
+        this.home = home;
+        this.team = home ? match.getHomeTeam() : match.getAwayTeam();
+        this.result = match.outcomeFor(home);
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    public Match getMatch() {
+        return match;
+    }
+
+    public boolean isHome() {
+        return home;
+    }
+
+    public MatchOutcome getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+package org.soccer.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// One team's rating after one finished match; written once, never updated
+@Entity
+@Immutable
+@Table(name = "team_rating_history",
+       indexes = @Index(name = "idx_team_rating_history_team", columnList = "team_id, id"))
+public class TeamRatingHistory {
+
+    // Attributes
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_rating_history_seq")
+    @SequenceGenerator(name = "team_rating_history_seq", sequenceName = "team_rating_history_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "team_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Team team;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "match_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Match match;
+
+    @Column(nullable = false, updatable = false)
+    private double rating; // Rating after the match
+
+    @Column(nullable = false, updatable = false)
+    private double ratingChange;
+
+    // Constructors
+    public TeamRatingHistory() {}
+
+    public TeamRatingHistory(Team team, Match match, double rating, double ratingChange) {
+        this.team = team;
+        this.match = match;
+        this.rating = rating;
+        this.ratingChange = ratingChange;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    public Match getMatch() {
+        return match;
+    }
+
+    public double getRating() {
+        return rating;
+    }
+
+    public double getRatingChange() {
+        return ratingChange;
+    }
+}
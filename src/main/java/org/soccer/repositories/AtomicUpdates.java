@@ -0,0 +1,47 @@
+package org.soccer.repositories;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+
+// Runs a repository's "UPDATE VERSIONED ... SET x = x + :amount WHERE id IN :ids" statement,
+// evaluated by the database, so concurrent writers cannot lose increments and no row is read
+// first. VERSIONED bumps @Version: a copy loaded before the increment fails on flush instead of
+// writing old values back.
+//
+// Rows getting the same amount share one statement, so a round's points (0, 1 or 3 per team)
+// or goals take a handful of statements. Like any bulk statement, each one bypasses the
+// persistence context and evicts the entity's second-level region, before and after commit.
+final class AtomicUpdates {
+
+    private AtomicUpdates() {}
+
+    // Returns the number of rows changed, which is smaller than the map when some ids have no
+    // entity. Runs in the caller's transaction.
+    static <N extends Number> int increment(EntityManager em, Class<?> type, String jpql, Map<Long, N> amounts) {
+        if (amounts.isEmpty()) {
+            return 0;
+        }
+        // Pending changes go first, so a managed copy is never written over the new values
+        em.flush();
+
+        Map<N, List<Long>> idsByAmount = new LinkedHashMap<>();
+        amounts.forEach((id, amount) -> idsByAmount.computeIfAbsent(amount, key -> new ArrayList<>()).add(id));
+        int updated = 0;
+        for (Map.Entry<N, List<Long>> group : idsByAmount.entrySet()) {
+            updated += em.createQuery(jpql)
+                    .setParameter("amount", group.getKey())
+                    .setParameter("ids", group.getValue())
+                    .executeUpdate();
+        }
+
+        // The statements bypassed the persistence context: the next read loads the new rows
+        for (Long id : amounts.keySet()) {
+            em.detach(em.getReference(type, id));
+        }
+        return updated;
+    }
+}
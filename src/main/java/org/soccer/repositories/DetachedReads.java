@@ -0,0 +1,58 @@
+package org.soccer.repositories;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+// Bulk reads that run in a short-lived EntityManager, so large exports neither grow
+// the caller's persistence context nor flood the second-level cache.
+// Returned entities are detached: plain fields are loaded, lazy associations are not.
+class DetachedReads {
+    private static final int FETCH_SIZE = 500;
+
+    private DetachedReads() {}
+
+    // Rows are detached as they are emitted, keeping memory constant.
+    // The stream holds a connection until it is closed.
+    static <T> Stream<T> stream(EntityManager em, String jpql, Class<T> type) {
+        EntityManager readEm = em.getEntityManagerFactory().createEntityManager();
+        try {
+            TypedQuery<T> query = readQuery(readEm, jpql, type);
+            query.setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE);
+            return query.getResultStream()
+                    .peek(readEm::detach)
+                    .onClose(readEm::close);
+        } catch (RuntimeException e) {
+            readEm.close();
+            throw e;
+        }
+    }
+
+    // Keyset page: the next rows after the given id, in id order
+    static <T> List<T> pageAfter(EntityManager em, String jpql, Class<T> type, Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        EntityManager readEm = em.getEntityManagerFactory().createEntityManager();
+        try {
+            TypedQuery<T> query = readQuery(readEm, jpql, type);
+            query.setParameter("afterId", afterId == null ? Long.MIN_VALUE : afterId);
+            query.setMaxResults(limit);
+            return query.getResultList();
+        } finally {
+            readEm.close();
+        }
+    }
+
+    private static <T> TypedQuery<T> readQuery(EntityManager readEm, String jpql, Class<T> type) {
+        TypedQuery<T> query = readEm.createQuery(jpql, type);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        query.setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE);
+        return query;
+    }
+}
@@ -2,23 +2,39 @@ package org.soccer.repositories;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.soccer.enums.MatchStatus;
+import org.soccer.dto.LeagueSummary;
 import org.soccer.models.League;
+import org.soccer.models.Match;
+import org.soccer.models.MatchEvent;
+import org.soccer.models.Player;
+import org.soccer.models.Team;
+import org.soccer.models.TeamParticipation;
+import org.soccer.models.TeamRatingHistory;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class LeagueRepository {
 
     private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
 
     public LeagueRepository(EntityManager em) {
         this.em = em;
+        this.transactionTemplate = new TransactionTemplate(em);
     }
 
     // CRUD operations
     public void save(League league) {
-        em.getTransaction().begin();
-        em.persist(league);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> em.persist(league));
     }
 
     public League findById(Long id) {
@@ -31,15 +47,103 @@ public class LeagueRepository {
     }
 
     public void update(League league) {
-        em.getTransaction().begin();
-        em.merge(league);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> em.merge(league));
     }
 
     public void delete(League league) {
-        em.getTransaction().begin();
-        em.remove(league);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> em.remove(league));
+    }
+
+    public void afterCommit(Runnable action) {
+        transactionTemplate.afterCommit(action);
+    }
+
+    // League-wide bulk operations: a fixed number of statements whatever the league's size.
+    // They bypass the persistence context, so pending changes are flushed first and the
+    // affected entities are detached afterwards, to be reloaded from the new rows.
+
+    // Clears points, score and goals and moves the league to its next season, so the last
+    // season's matches no longer count; returns the number of teams reset
+    public int resetSeason(Long leagueId) {
+        return transactionTemplate.execute(() -> {
+            em.flush();
+            List<Long> teamIds = em.createQuery(
+                    "SELECT t.id FROM Team t WHERE t.league.id = :leagueId", Long.class)
+                    .setParameter("leagueId", leagueId)
+                    .getResultList();
+            List<Long> playerIds = em.createQuery(
+                    "SELECT p.id FROM Player p WHERE p.team.league.id = :leagueId", Long.class)
+                    .setParameter("leagueId", leagueId)
+                    .getResultList();
+            int teams = em.createQuery(
+                    "UPDATE VERSIONED Team t SET t.totalPoints = 0, t.score = 0 WHERE t.league.id = :leagueId")
+                    .setParameter("leagueId", leagueId)
+                    .executeUpdate();
+            em.createQuery(
+                    "UPDATE VERSIONED Player p SET p.goalsScored = 0 " +
+                    "WHERE p.team.id IN (SELECT t.id FROM Team t WHERE t.league.id = :leagueId)")
+                    .setParameter("leagueId", leagueId)
+                    .executeUpdate();
+            teamIds.forEach(id -> em.detach(em.getReference(Team.class, id)));
+            playerIds.forEach(id -> em.detach(em.getReference(Player.class, id)));
+            // The league stays managed: its table is reset by the caller and nothing loads its team list
+            League league = em.find(League.class, leagueId);
+            league.setSeason(league.getSeason() + 1);
+            return teams;
+        });
+    }
+
+    // Deletes the league with its matches, teams and players; returns 0 if there was no league.
+    // Match events, participations and rating history go with their rows through ON DELETE CASCADE.
+    public int deleteWithContents(Long leagueId) {
+        return transactionTemplate.execute(() -> {
+            em.flush();
+            Set<Long> matchIds = new HashSet<>(em.createQuery(
+                    "SELECT m.id FROM Match m WHERE m.league.id = :leagueId", Long.class)
+                    .setParameter("leagueId", leagueId)
+                    .getResultList());
+            Set<Long> teamIds = new HashSet<>(em.createQuery(
+                    "SELECT t.id FROM Team t WHERE t.league.id = :leagueId", Long.class)
+                    .setParameter("leagueId", leagueId)
+                    .getResultList());
+            em.createQuery("DELETE FROM Match m WHERE m.league.id = :leagueId")
+                    .setParameter("leagueId", leagueId)
+                    .executeUpdate();
+            em.createQuery(
+                    "DELETE FROM Player p " +
+                    "WHERE p.team.id IN (SELECT t.id FROM Team t WHERE t.league.id = :leagueId)")
+                    .setParameter("leagueId", leagueId)
+                    .executeUpdate();
+            em.createQuery("DELETE FROM Team t WHERE t.league.id = :leagueId")
+                    .setParameter("leagueId", leagueId)
+                    .executeUpdate();
+            int leagues = em.createQuery("DELETE FROM League l WHERE l.id = :leagueId")
+                    .setParameter("leagueId", leagueId)
+                    .executeUpdate();
+            detachDeleted(leagueId, matchIds, teamIds);
+            return leagues;
+        });
+    }
+
+    // Only the deleted rows leave the shared context, found among the loaded entities rather
+    // than selected: whatever was never loaded needs no detaching
+    private void detachDeleted(Long leagueId, Set<Long> matchIds, Set<Long> teamIds) {
+        PersistenceContext context = em.unwrap(SessionImplementor.class).getPersistenceContextInternal();
+        for (Map.Entry<Object, EntityEntry> entry : context.reentrantSafeEntityEntries()) {
+            boolean deleted = switch (entry.getKey()) {
+                case League league -> league.getId().equals(leagueId);
+                case Team team -> teamIds.contains(team.getId());
+                case Player player -> teamIds.contains(player.getTeam().getId());
+                case Match match -> matchIds.contains(match.getId());
+                case MatchEvent event -> matchIds.contains(event.getMatch().getId());
+                case TeamParticipation participation -> matchIds.contains(participation.getMatch().getId());
+                case TeamRatingHistory history -> teamIds.contains(history.getTeam().getId());
+                default -> false;
+            };
+            if (deleted) {
+                em.detach(entry.getKey());
+            }
+        }
     }
 
     // Custom queries
@@ -49,4 +153,39 @@ public class LeagueRepository {
         query.setParameter("name", "%" + name + "%");
         return query.getResultList();
     }
+
+    public List<Team> findTeams(Long leagueId) {
+        TypedQuery<Team> query = em.createQuery(
+                "SELECT t FROM Team t WHERE t.league.id = :leagueId", Team.class);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter("leagueId", leagueId);
+        return query.getResultList();
+    }
+
+    // The current season's results only
+    public List<Match> findFinishedMatches(Long leagueId) {
+        TypedQuery<Match> query = em.createQuery(
+                "SELECT m FROM Match m JOIN FETCH m.homeTeam JOIN FETCH m.awayTeam JOIN m.league l " +
+                "WHERE l.id = :leagueId AND m.season = l.season AND m.status = :status", Match.class);
+        query.setParameter("leagueId", leagueId);
+        query.setParameter("status", MatchStatus.FINISHED);
+        return query.getResultList();
+    }
+
+    // Read models
+    public List<LeagueSummary> findAllSummaries() {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.LeagueSummary(l.id, l.name) FROM League l ORDER BY l.id",
+                LeagueSummary.class).getResultList();
+    }
+
+    // Constant-memory reads
+    public Stream<League> streamAll() {
+        return DetachedReads.stream(em, "SELECT l FROM League l ORDER BY l.id", League.class);
+    }
+
+    public List<League> findPageAfter(Long afterId, int limit) {
+        return DetachedReads.pageAfter(em, "SELECT l FROM League l WHERE l.id > :afterId ORDER BY l.id",
+                                       League.class, afterId, limit);
+    }
 }
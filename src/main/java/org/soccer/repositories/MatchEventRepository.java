@@ -0,0 +1,42 @@
+package org.soccer.repositories;
+
+import java.util.List;
+
+import org.soccer.models.MatchEvent;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+public class MatchEventRepository {
+
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+
+    public MatchEventRepository(EntityManager em) {
+        this.em = em;
+        this.transactionTemplate = new TransactionTemplate(em);
+    }
+
+    // Append operations
+    public void saveAll(List<MatchEvent> events) {
+        transactionTemplate.execute(() -> {
+            for (MatchEvent event : events) {
+                em.persist(event);
+            }
+            // Logged events are never modified, so once written there is no point keeping them managed
+            em.flush();
+            for (MatchEvent event : events) {
+                em.detach(event);
+            }
+        });
+    }
+
+    // Custom queries
+    public List<MatchEvent> findByMatchId(Long matchId) {
+        TypedQuery<MatchEvent> query = em.createQuery(
+                "SELECT e FROM MatchEvent e LEFT JOIN FETCH e.team LEFT JOIN FETCH e.player " +
+                "WHERE e.match.id = :matchId ORDER BY e.minute, e.id", MatchEvent.class);
+        query.setParameter("matchId", matchId);
+        return query.getResultList();
+    }
+}
@@ -1,9 +1,14 @@
 package org.soccer.repositories;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.soccer.dto.ActiveMatch;
+import org.soccer.dto.MatchSummary;
+import org.soccer.enums.MatchOutcome;
 import org.soccer.enums.MatchStatus;
 import org.soccer.models.Match;
+import org.soccer.models.TeamParticipation;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
@@ -11,16 +16,20 @@ import jakarta.persistence.TypedQuery;
 public class MatchRepository {
 
     private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
 
     public MatchRepository(EntityManager em) {
         this.em = em;
+        this.transactionTemplate = new TransactionTemplate(em);
     }
 
     // CRUD operations
     public void save(Match match) {
-        em.getTransaction().begin();
-        em.persist(match);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> {
+            em.persist(match);
+            em.persist(new TeamParticipation(match, true));
+            em.persist(new TeamParticipation(match, false));
+        });
     }
 
     public Match findById(Long id) {
@@ -32,26 +41,66 @@ public class MatchRepository {
         return query.getResultList();
     }
 
+    // The match row only, for changes that leave its teams and result as they were
     public void update(Match match) {
-        em.getTransaction().begin();
-        em.merge(match);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> em.merge(match));
+    }
+
+    // For a new pairing or a finished match's result: the participation rows follow
+    public void updateWithParticipations(Match match) {
+        transactionTemplate.execute(() -> {
+            em.merge(match);
+            updateParticipations(match);
+        });
+    }
+
+    // Both participation rows follow the match's teams and result, in one statement on the match_id index
+    private void updateParticipations(Match match) {
+        em.createQuery(
+                "UPDATE TeamParticipation p SET " +
+                "p.team.id = CASE WHEN p.home = true THEN :homeTeamId ELSE :awayTeamId END, " +
+                "p.result = CASE WHEN p.home = true THEN :homeResult ELSE :awayResult END " +
+                "WHERE p.match.id = :matchId")
+                .setParameter("homeTeamId", match.getHomeTeam().getId())
+                .setParameter("awayTeamId", match.getAwayTeam().getId())
+                .setParameter("homeResult", match.outcomeFor(true))
+                .setParameter("awayResult", match.outcomeFor(false))
+                .setParameter("matchId", match.getId())
+                .executeUpdate();
     }
 
     public void delete(Match match) {
-        em.getTransaction().begin();
-        em.remove(match);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> em.remove(match));
+    }
+
+    public void refresh(Match match) {
+        em.refresh(match);
+    }
+
+    public void afterCommit(Runnable action) {
+        transactionTemplate.afterCommit(action);
     }
 
     // Custom queries
+    // A range scan of the team's participations, in match order
     public List<Match> findByTeamId(Long teamId) {
         TypedQuery<Match> query = em.createQuery(
-                "SELECT m FROM Match m WHERE m.homeTeam.id = :teamId OR m.awayTeam.id = :teamId", Match.class);
+                "SELECT m FROM TeamParticipation p JOIN p.match m WHERE p.team.id = :teamId ORDER BY p.match.id",
+                Match.class);
         query.setParameter("teamId", teamId);
         return query.getResultList();
     }
 
+    // Results of the team's latest finished matches, newest first, without touching matches
+    public List<MatchOutcome> findFormByTeamId(Long teamId, int limit) {
+        return em.createQuery(
+                "SELECT p.result FROM TeamParticipation p WHERE p.team.id = :teamId AND p.result IS NOT NULL " +
+                "ORDER BY p.match.id DESC", MatchOutcome.class)
+                .setParameter("teamId", teamId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     public List<Match> findByLeagueId(Long leagueId) {
         TypedQuery<Match> query = em.createQuery(
                 "SELECT m FROM Match m WHERE m.league.id = :leagueId", Match.class);
@@ -59,6 +108,16 @@ public class MatchRepository {
         return query.getResultList();
     }
 
+    // Results of the league's current season, on the league, season and status index
+    public List<Match> findFinishedInCurrentSeason(Long leagueId) {
+        TypedQuery<Match> query = em.createQuery(
+                "SELECT m FROM Match m JOIN m.league l " +
+                "WHERE l.id = :leagueId AND m.season = l.season AND m.status = :status", Match.class);
+        query.setParameter("leagueId", leagueId);
+        query.setParameter("status", MatchStatus.FINISHED);
+        return query.getResultList();
+    }
+
     public List<Match> findByStatus(MatchStatus status) {
         TypedQuery<Match> query = em.createQuery(
                 "SELECT m FROM Match m WHERE m.status = :status", Match.class);
@@ -77,4 +136,31 @@ public class MatchRepository {
     public List<Match> findCompletedMatches() {
         return findByStatus(MatchStatus.FINISHED);
     }
+
+    // Read models
+    public List<ActiveMatch> findActiveMatches() {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.ActiveMatch(m.id, m.league.id, h.id, h.name, a.id, a.name, " +
+                "m.status, m.matchTime, m.homeScore, m.awayScore) " +
+                "FROM Match m JOIN m.homeTeam h JOIN m.awayTeam a " +
+                "WHERE m.status IN :statuses ORDER BY m.id", ActiveMatch.class)
+                .setParameter("statuses", List.of(MatchStatus.SCHEDULED, MatchStatus.ONGOING))
+                .getResultList();
+    }
+
+    public List<MatchSummary> findAllSummaries() {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.MatchSummary(m.id, h.name, m.homeScore, m.awayScore, a.name, m.status) " +
+                "FROM Match m JOIN m.homeTeam h JOIN m.awayTeam a ORDER BY m.id", MatchSummary.class).getResultList();
+    }
+
+    // Constant-memory reads
+    public Stream<Match> streamAll() {
+        return DetachedReads.stream(em, "SELECT m FROM Match m ORDER BY m.id", Match.class);
+    }
+
+    public List<Match> findPageAfter(Long afterId, int limit) {
+        return DetachedReads.pageAfter(em, "SELECT m FROM Match m WHERE m.id > :afterId ORDER BY m.id",
+                                       Match.class, afterId, limit);
+    }
 }
@@ -2,23 +2,31 @@ package org.soccer.repositories;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.soccer.dto.PlayerSummary;
+import org.soccer.dto.RosterEntry;
+import org.soccer.dto.TeamPlayerCount;
+import org.soccer.dto.TopScorer;
 import org.soccer.models.Player;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.Map;
 
 public class PlayerRepository {
 
     private final EntityManager em; // EntityManager for database operations
+    private final TransactionTemplate transactionTemplate;
 
     public PlayerRepository(EntityManager em) {
         this.em = em;
+        this.transactionTemplate = new TransactionTemplate(em);
     } // Constructor to initialize EntityManager
 
     // CRUD operations
     public void save(Player player) {
-        em.getTransaction().begin();
-        em.persist(player);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> em.persist(player));
     } // Save a new player
 
     public Player findById(Long id) {
@@ -31,17 +39,31 @@ public class PlayerRepository {
     } // Find all players
 
     public void update(Player player) {
-        em.getTransaction().begin();
-        em.merge(player);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> em.merge(player));
     } // Update an existing player
 
     public void delete(Player player) {
-        em.getTransaction().begin();
-        em.remove(player);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> em.remove(player));
     } // Delete a player
 
+    public void addGoals(Map<Long, Integer> goalsByPlayer) {
+        transactionTemplate.execute(() -> {
+            int updated = AtomicUpdates.increment(em, Player.class,
+                    "UPDATE VERSIONED Player p SET p.goalsScored = p.goalsScored + :amount WHERE p.id IN :ids",
+                    goalsByPlayer);
+            if (updated < goalsByPlayer.size()) {
+                throw new RuntimeException("Player not found");
+            }
+        });
+    } // Apply buffered goal increments in one transaction, one atomic update per distinct amount
+
+    public void refresh(Long id) {
+        Player player = em.getReference(Player.class, id);
+        if (em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(player)) {
+            em.refresh(player);
+        }
+    } // Reload a player changed through another EntityManager; unloaded ones are left to load lazily
+
     // Custom query
     public List<Player> findByPosition(String position) {
         TypedQuery<Player> query = em.createQuery(
@@ -53,7 +75,94 @@ public class PlayerRepository {
     public List<Player> findByTeamId(Long teamId) {
         TypedQuery<Player> query = em.createQuery(
                 "SELECT p FROM Player p WHERE p.team.id = :teamId", Player.class);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
         query.setParameter("teamId", teamId);
         return query.getResultList();
     } // Find players by team ID
+
+    // Read models
+    public List<PlayerSummary> findAllSummaries() {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.PlayerSummary(p.id, p.name, p.position, t.name, p.age, p.goalsScored) " +
+                "FROM Player p JOIN p.team t ORDER BY p.id", PlayerSummary.class).getResultList();
+    } // One query for every player with its team name
+
+    public List<RosterEntry> findRosterByLeagueId(Long leagueId) {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.RosterEntry(p.id, p.name, p.position, t.id, t.rating) " +
+                "FROM Player p JOIN p.team t WHERE t.league.id = :leagueId ORDER BY t.id, p.id", RosterEntry.class)
+                .setParameter("leagueId", leagueId)
+                .getResultList();
+    } // Every squad of a league in one query
+
+    public List<RosterEntry> findRosterByTeamIds(Collection<Long> teamIds) {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.RosterEntry(p.id, p.name, p.position, t.id, t.rating) " +
+                "FROM Player p JOIN p.team t WHERE t.id IN :teamIds ORDER BY t.id, p.id", RosterEntry.class)
+                .setParameter("teamIds", teamIds)
+                .getResultList();
+    } // The squads of the given teams in one query
+
+    public void afterCommit(Runnable action) {
+        transactionTemplate.afterCommit(action);
+    } // Runs the action once the current transaction commits
+
+    public Player getReference(Long id) {
+        return em.getReference(Player.class, id);
+    } // Stand-in for a player known to exist, without loading it
+
+    // Leaderboard reads, served by the goals index
+    public List<TopScorer> findTopScorers(int limit) {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.TopScorer(p.id, p.name, t.id, t.name, t.league.id, p.goalsScored) " +
+                "FROM Player p JOIN p.team t WHERE p.goalsScored > 0 ORDER BY p.goalsScored DESC, p.id",
+                TopScorer.class)
+                .setMaxResults(limit)
+                .getResultList();
+    } // Best scorers across all leagues; reads only the first rows of the index
+
+    public List<TopScorer> findTopScorersByLeagueId(Long leagueId, int limit) {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.TopScorer(p.id, p.name, t.id, t.name, t.league.id, p.goalsScored) " +
+                "FROM Player p JOIN p.team t WHERE t.league.id = :leagueId AND p.goalsScored > 0 " +
+                "ORDER BY p.goalsScored DESC, p.id", TopScorer.class)
+                .setParameter("leagueId", leagueId)
+                .setMaxResults(limit)
+                .getResultList();
+    } // Best scorers of one league
+
+    public List<TopScorer> findScorersByIds(Collection<Long> playerIds) {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.TopScorer(p.id, p.name, t.id, t.name, t.league.id, p.goalsScored) " +
+                "FROM Player p JOIN p.team t WHERE p.id IN :playerIds", TopScorer.class)
+                .setParameter("playerIds", playerIds)
+                .getResultList();
+    } // Current totals of the given players, as leaderboard lines
+
+    // Aggregates
+    public List<TeamPlayerCount> countByTeam() {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.TeamPlayerCount(t.id, t.name, t.league.id, COUNT(p)) " +
+                "FROM Team t LEFT JOIN t.players p GROUP BY t.id, t.name, t.league.id ORDER BY t.id",
+                TeamPlayerCount.class).getResultList();
+    } // Player count of every team in one query
+
+    public List<TeamPlayerCount> countByTeam(Long leagueId) {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.TeamPlayerCount(t.id, t.name, t.league.id, COUNT(p)) " +
+                "FROM Team t LEFT JOIN t.players p WHERE t.league.id = :leagueId " +
+                "GROUP BY t.id, t.name, t.league.id ORDER BY t.id", TeamPlayerCount.class)
+                .setParameter("leagueId", leagueId)
+                .getResultList();
+    } // Player count of every team in a league in one query
+
+    // Constant-memory reads
+    public Stream<Player> streamAll() {
+        return DetachedReads.stream(em, "SELECT p FROM Player p ORDER BY p.id", Player.class);
+    } // Stream every player; close the stream when done
+
+    public List<Player> findPageAfter(Long afterId, int limit) {
+        return DetachedReads.pageAfter(em, "SELECT p FROM Player p WHERE p.id > :afterId ORDER BY p.id",
+                                       Player.class, afterId, limit);
+    } // Keyset page of players after the given id
 }
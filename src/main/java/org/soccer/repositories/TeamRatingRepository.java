@@ -0,0 +1,57 @@
+package org.soccer.repositories;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.soccer.models.Team;
+import org.soccer.models.TeamRatingHistory;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+public class TeamRatingRepository {
+
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+
+    public TeamRatingRepository(EntityManager em) {
+        this.em = em;
+        this.transactionTemplate = new TransactionTemplate(em);
+    }
+
+    // Moves every team by the sum of its changes and logs each one, as one unit of work: the
+    // rating increments, then the history rows through the batched flush. The ratings stored in
+    // the history only label the rows; the columns change atomically.
+    public void saveRatingChanges(List<TeamRatingHistory> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        transactionTemplate.execute(() -> {
+            Map<Long, Double> changeByTeam = new LinkedHashMap<>();
+            for (TeamRatingHistory entry : entries) {
+                changeByTeam.merge(entry.getTeam().getId(), entry.getRatingChange(), Double::sum);
+            }
+            // Typed explicitly: left to inference, a Double amount is cast to a float type H2 rejects
+            AtomicUpdates.increment(em, Team.class,
+                    "UPDATE VERSIONED Team t SET t.rating = t.rating + cast(:amount as Double) WHERE t.id IN :ids",
+                    changeByTeam);
+            for (TeamRatingHistory entry : entries) {
+                em.persist(entry);
+            }
+            // History rows are never modified, so they need not stay managed
+            em.flush();
+            for (TeamRatingHistory entry : entries) {
+                em.detach(entry);
+            }
+        });
+    }
+
+    // Custom queries
+    public List<TeamRatingHistory> findHistoryByTeamId(Long teamId) {
+        TypedQuery<TeamRatingHistory> query = em.createQuery(
+                "SELECT h FROM TeamRatingHistory h WHERE h.team.id = :teamId ORDER BY h.id", TeamRatingHistory.class);
+        query.setParameter("teamId", teamId);
+        return query.getResultList();
+    }
+}
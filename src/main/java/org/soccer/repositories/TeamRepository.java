@@ -2,23 +2,30 @@ package org.soccer.repositories;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.soccer.dto.LeagueTeamCount;
+import org.soccer.dto.TeamSummary;
 import org.soccer.models.Team;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public class TeamRepository {
 
     private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
 
     public TeamRepository(EntityManager em) {
         this.em = em;
+        this.transactionTemplate = new TransactionTemplate(em);
     }
 
     // CRUD operations
     public void save(Team team) {
-        em.getTransaction().begin();
-        em.persist(team);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> em.persist(team));
     }
 
     public Team findById(Long id) {
@@ -31,21 +38,45 @@ public class TeamRepository {
     }
 
     public void update(Team team) {
-        em.getTransaction().begin();
-        em.merge(team);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> em.merge(team));
     }
 
     public void delete(Team team) {
-        em.getTransaction().begin();
-        em.remove(team);
-        em.getTransaction().commit();
+        transactionTemplate.execute(() -> em.remove(team));
+    }
+
+    public void afterCommit(Runnable action) {
+        transactionTemplate.afterCommit(action);
+    }
+
+    // Atomic updates
+    public int addPoints(Long teamId, int points) {
+        return addPoints(Map.of(teamId, points));
+    }
+
+    // Every team's points, one statement per distinct amount; returns the number of teams found
+    public int addPoints(Map<Long, Integer> pointsByTeam) {
+        return transactionTemplate.execute(() -> AtomicUpdates.increment(em, Team.class,
+                "UPDATE VERSIONED Team t SET t.totalPoints = t.totalPoints + :amount WHERE t.id IN :ids",
+                pointsByTeam));
     }
 
     // Custom queries
+    public Map<Long, Double> findRatings(Collection<Long> teamIds) {
+        Map<Long, Double> ratings = new HashMap<>();
+        for (Object[] row : em.createQuery(
+                "SELECT t.id, t.rating FROM Team t WHERE t.id IN :teamIds", Object[].class)
+                .setParameter("teamIds", teamIds)
+                .getResultList()) {
+            ratings.put((Long) row[0], (Double) row[1]);
+        }
+        return ratings;
+    }
+
     public List<Team> findByLeagueId(Long leagueId) {
         TypedQuery<Team> query = em.createQuery(
                 "SELECT t FROM Team t WHERE t.league.id = :leagueId", Team.class);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
         query.setParameter("leagueId", leagueId);
         return query.getResultList();
     }
@@ -63,4 +94,29 @@ public class TeamRepository {
         query.setParameter("coachName", "%" + coachName + "%");
         return query.getResultList();
     }
+
+    // Read models
+    public List<TeamSummary> findAllSummaries() {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.TeamSummary(t.id, t.name, t.coachName, l.name, t.totalPoints) " +
+                "FROM Team t JOIN t.league l ORDER BY t.id", TeamSummary.class).getResultList();
+    }
+
+    // Aggregates
+    public List<LeagueTeamCount> countByLeague() {
+        return em.createQuery(
+                "SELECT new org.soccer.dto.LeagueTeamCount(l.id, l.name, COUNT(t)) " +
+                "FROM League l LEFT JOIN l.teams t GROUP BY l.id, l.name ORDER BY l.id",
+                LeagueTeamCount.class).getResultList();
+    }
+
+    // Constant-memory reads
+    public Stream<Team> streamAll() {
+        return DetachedReads.stream(em, "SELECT t FROM Team t ORDER BY t.id", Team.class);
+    }
+
+    public List<Team> findPageAfter(Long afterId, int limit) {
+        return DetachedReads.pageAfter(em, "SELECT t FROM Team t WHERE t.id > :afterId ORDER BY t.id",
+                                       Team.class, afterId, limit);
+    }
 }
@@ -0,0 +1,71 @@
+package org.soccer.repositories;
+
+import java.util.function.Supplier;
+
+import org.hibernate.Session;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+
+// Unit of work over an EntityManager. Work runs in its own transaction unless one is
+// already active, in which case it joins it; only the outermost call commits or rolls back.
+public class TransactionTemplate {
+
+    private final EntityManager em;
+
+    public TransactionTemplate(EntityManager em) {
+        this.em = em;
+    }
+
+    public <T> T execute(Supplier<T> work) {
+        EntityTransaction transaction = em.getTransaction();
+        if (transaction.isActive()) {
+            return work.get();
+        }
+        transaction.begin();
+        try {
+            T result = work.get();
+            transaction.commit();
+            return result;
+        } catch (RuntimeException e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    public void execute(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public boolean isActive() {
+        return em.getTransaction().isActive();
+    }
+
+    // Runs the action once the current unit of work has committed, or now when none is active.
+    // For in-memory state that mirrors the database: after a rollback the action never runs.
+    public void afterCommit(Runnable action) {
+        if (!isActive()) {
+            action.run();
+            return;
+        }
+        em.unwrap(Session.class).getTransaction().registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
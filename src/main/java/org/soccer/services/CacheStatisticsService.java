@@ -0,0 +1,56 @@
+package org.soccer.services;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Hit/miss counters of the second-level and query caches
+public class CacheStatisticsService {
+    private final Statistics statistics;
+
+    public CacheStatisticsService(EntityManagerFactory emf) {
+        this.statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public record RegionStatistics(String region, long hits, long misses, long puts, long elementsInMemory) {
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+
+    public long getEntityCacheHits() {
+        return statistics.getSecondLevelCacheHitCount();
+    }
+
+    public long getEntityCacheMisses() {
+        return statistics.getSecondLevelCacheMissCount();
+    }
+
+    public long getQueryCacheHits() {
+        return statistics.getQueryCacheHitCount();
+    }
+
+    public long getQueryCacheMisses() {
+        return statistics.getQueryCacheMissCount();
+    }
+
+    public List<RegionStatistics> getRegionStatistics() {
+        List<RegionStatistics> regions = new ArrayList<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+            regions.add(new RegionStatistics(region, stats.getHitCount(), stats.getMissCount(),
+                                             stats.getPutCount(), stats.getElementCountInMemory()));
+        }
+        return regions;
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+}
@@ -0,0 +1,141 @@
+package org.soccer.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.soccer.dto.TopScorer;
+import org.soccer.repositories.PlayerRepository;
+
+// Top scorers across all leagues and per league, kept in memory and fed by persisted goals.
+// Goal totals only grow during play, so a board needs just its best `capacity` scorers: a
+// player passing the last one takes that place, and nobody outside can be owed it. Edits,
+// transfers, deletions and season resets can lower a total or move it to another league; they
+// call invalidate once committed, and a board built before that is reloaded on its next read.
+public class LeaderboardService {
+    public static final int DEFAULT_CAPACITY = 50;
+
+    private static final Comparator<TopScorer> RANKING = Comparator
+            .comparingInt(TopScorer::goals).reversed()
+            .thenComparing(TopScorer::playerId);
+
+    private final PlayerRepository playerRepository;
+    private final int capacity;
+    private final Board global = new Board();
+    private final ConcurrentMap<Long, Board> byLeague = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public LeaderboardService(PlayerRepository playerRepository) {
+        this(playerRepository, DEFAULT_CAPACITY);
+    }
+
+    public LeaderboardService(PlayerRepository playerRepository, int capacity) {
+        this.playerRepository = playerRepository;
+        this.capacity = capacity;
+    }
+
+    // Best n scorers of all leagues, in time proportional to n once the board is loaded
+    public List<TopScorer> getTopScorers(int n) {
+        if (n > capacity) {
+            return playerRepository.findTopScorers(n);
+        }
+        return read(global, n, () -> playerRepository.findTopScorers(capacity));
+    }
+
+    public List<TopScorer> getTopScorers(Long leagueId, int n) {
+        if (n > capacity) {
+            return playerRepository.findTopScorersByLeagueId(leagueId, n);
+        }
+        Board board = byLeague.computeIfAbsent(leagueId, id -> new Board());
+        return read(board, n, () -> playerRepository.findTopScorersByLeagueId(leagueId, capacity));
+    }
+
+    // Every board reloads on its next read; call once a change that can lower a total has committed
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    // New totals of players whose goals have committed; safe to call from any thread
+    public void recordGoals(Collection<TopScorer> scorers) {
+        for (TopScorer scorer : scorers) {
+            global.offer(scorer, capacity);
+            // Leagues nobody has looked at yet are loaded from the database when first read
+            Board board = byLeague.get(scorer.leagueId());
+            if (board != null) {
+                board.offer(scorer, capacity);
+            }
+        }
+    }
+
+    // The check, the load and the read hold the board's lock, so goals offered meanwhile wait
+    // for the loaded board instead of being wiped by it. The version is read before the query:
+    // an invalidation while loading leaves the board stale for the next read.
+    private List<TopScorer> read(Board board, int n, Supplier<List<TopScorer>> query) {
+        synchronized (board) {
+            long current = version.get();
+            if (!board.isCurrent(current)) {
+                board.load(query.get(), current);
+            }
+            return board.top(n);
+        }
+    }
+
+    // Ranked set plus a player index so a scorer's previous line can be replaced
+    private static final class Board {
+        private static final long NOT_LOADED = -1;
+
+        private final NavigableSet<TopScorer> ranking = new TreeSet<>(RANKING);
+        private final Map<Long, TopScorer> byPlayer = new HashMap<>();
+        private long version = NOT_LOADED;
+
+        synchronized boolean isCurrent(long current) {
+            return version == current;
+        }
+
+        synchronized void load(List<TopScorer> top, long loadedVersion) {
+            ranking.clear();
+            byPlayer.clear();
+            for (TopScorer scorer : top) {
+                ranking.add(scorer);
+                byPlayer.put(scorer.playerId(), scorer);
+            }
+            version = loadedVersion;
+        }
+
+        synchronized void offer(TopScorer scorer, int capacity) {
+            if (version == NOT_LOADED) {
+                return;
+            }
+            TopScorer previous = byPlayer.remove(scorer.playerId());
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            if (ranking.size() < capacity || RANKING.compare(scorer, ranking.last()) < 0) {
+                ranking.add(scorer);
+                byPlayer.put(scorer.playerId(), scorer);
+                if (ranking.size() > capacity) {
+                    byPlayer.remove(ranking.pollLast().playerId());
+                }
+            }
+        }
+
+        synchronized List<TopScorer> top(int n) {
+            List<TopScorer> top = new ArrayList<>(Math.min(n, ranking.size()));
+            Iterator<TopScorer> iterator = ranking.iterator();
+            while (top.size() < n && iterator.hasNext()) {
+                top.add(iterator.next());
+            }
+            return top;
+        }
+    }
+}
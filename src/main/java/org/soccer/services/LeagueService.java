@@ -1,16 +1,39 @@
 package org.soccer.services;
 
+import org.soccer.dto.LeagueSummary;
 import org.soccer.interfaces.ILeague;
 import org.soccer.models.League;
+import org.soccer.models.LeagueStandings;
 import org.soccer.repositories.LeagueRepository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public class LeagueService implements ILeague {
     private final LeagueRepository leagueRepository;
+    private final LiveMatchRegistry liveMatchRegistry; // null when live matches are not tracked
+    private final LeaderboardService leaderboardService; // null when nobody follows the scorers
+    private final RosterVersions rosterVersions; // null when no roster snapshots are kept
 
     public LeagueService(LeagueRepository leagueRepository) {
+        this(leagueRepository, null, null, null);
+    }
+
+    public LeagueService(LeagueRepository leagueRepository, LiveMatchRegistry liveMatchRegistry) {
+        this(leagueRepository, liveMatchRegistry, null, null);
+    }
+
+    public LeagueService(LeagueRepository leagueRepository, LiveMatchRegistry liveMatchRegistry,
+                         LeaderboardService leaderboardService) {
+        this(leagueRepository, liveMatchRegistry, leaderboardService, null);
+    }
+
+    public LeagueService(LeagueRepository leagueRepository, LiveMatchRegistry liveMatchRegistry,
+                         LeaderboardService leaderboardService, RosterVersions rosterVersions) {
         this.leagueRepository = leagueRepository;
+        this.liveMatchRegistry = liveMatchRegistry;
+        this.leaderboardService = leaderboardService;
+        this.rosterVersions = rosterVersions;
     }
 
     @Override
@@ -30,13 +53,41 @@ public class LeagueService implements ILeague {
         return existing;
     }
 
+    // Bulk delete of the league and everything in it; nothing is loaded first
     @Override
     public void deleteLeague(Long id) {
-        League league = leagueRepository.findById(id);
-        if (league == null) {
+        if (leagueRepository.deleteWithContents(id) == 0) {
             throw new RuntimeException("League not found");
         }
-        leagueRepository.delete(league);
+        // The league's players go with it, and so do its unplayed matches
+        leagueRepository.afterCommit(() -> {
+            playersChanged(id);
+            if (liveMatchRegistry != null) {
+                liveMatchRegistry.removeLeague(id);
+            }
+        });
+    }
+
+    // Starts the next season: zeroes team points and scores and player goals across the league
+    // and empties its table, in one transaction
+    @Override
+    public void resetSeason(Long id) {
+        LeagueStandings standings = getLeagueById(id).getStandings();
+        leagueRepository.resetSeason(id);
+        // The table starts again from the new season's results, and goal totals went down
+        leagueRepository.afterCommit(() -> {
+            standings.reset();
+            playersChanged(id);
+        });
+    }
+
+    private void playersChanged(Long leagueId) {
+        if (rosterVersions != null) {
+            rosterVersions.changed(leagueId);
+        }
+        if (leaderboardService != null) {
+            leaderboardService.invalidate();
+        }
     }
 
     @Override
@@ -53,8 +104,32 @@ public class LeagueService implements ILeague {
         return leagueRepository.findAll();
     }
 
+    @Override
+    public List<League> getLeaguesAfter(Long afterId, int limit) {
+        return leagueRepository.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Stream<League> streamAllLeagues() {
+        return leagueRepository.streamAll();
+    }
+
     // Additional methods not in interface but useful
     public List<League> getLeaguesByName(String name) {
         return leagueRepository.findByName(name);
     }
+
+    // Loaded once per league, then updated in memory as matches finish
+    public LeagueStandings getStandings(Long leagueId) {
+        League league = getLeagueById(leagueId);
+        LeagueStandings standings = league.getStandings();
+        if (!standings.isInitialized()) {
+            standings.initialize(leagueRepository.findTeams(leagueId), leagueRepository.findFinishedMatches(leagueId));
+        }
+        return standings;
+    }
+
+    public List<LeagueSummary> getLeagueSummaries() {
+        return leagueRepository.findAllSummaries();
+    }
 }
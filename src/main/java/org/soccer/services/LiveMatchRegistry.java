@@ -0,0 +1,80 @@
+package org.soccer.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.soccer.dto.ActiveMatch;
+
+// Scheduled and ongoing matches, kept in memory so "what's live now" never queries the
+// matches table. MatchService moves a match from scheduled to ongoing and drops it at full
+// time, whichever EntityManager or thread does the writing, once the change commits; reads
+// only walk a concurrent map and never block. Loaded from the database once at startup by reconcile.
+public class LiveMatchRegistry {
+    private static final Comparator<ActiveMatch> BY_ID = Comparator.comparing(ActiveMatch::id);
+
+    private final ConcurrentMap<Long, ActiveMatch> scheduled = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, ActiveMatch> ongoing = new ConcurrentHashMap<>();
+
+    // Replaces the contents with the database's view; call before matches are played
+    public void reconcile(Collection<ActiveMatch> activeMatches) {
+        scheduled.clear();
+        ongoing.clear();
+        activeMatches.forEach(this::register);
+    }
+
+    // Adds or replaces a match; finished matches are dropped
+    public void register(ActiveMatch match) {
+        switch (match.status()) {
+            case SCHEDULED -> {
+                ongoing.remove(match.id());
+                scheduled.put(match.id(), match);
+            }
+            case ONGOING -> {
+                scheduled.remove(match.id());
+                ongoing.put(match.id(), match);
+            }
+            case FINISHED -> remove(match.id());
+        }
+    }
+
+    // Live score; ignored once the match has left the registry
+    public void progress(Long matchId, int minute, int homeScore, int awayScore) {
+        ongoing.computeIfPresent(matchId, (id, match) -> match.withScore(minute, homeScore, awayScore));
+    }
+
+    public void remove(Long matchId) {
+        scheduled.remove(matchId);
+        ongoing.remove(matchId);
+    }
+
+    public void removeLeague(Long leagueId) {
+        scheduled.values().removeIf(match -> match.leagueId().equals(leagueId));
+        ongoing.values().removeIf(match -> match.leagueId().equals(leagueId));
+    }
+
+    public List<ActiveMatch> getOngoing() {
+        return sorted(ongoing.values());
+    }
+
+    public List<ActiveMatch> getScheduled() {
+        return sorted(scheduled.values());
+    }
+
+    public int getOngoingCount() {
+        return ongoing.size();
+    }
+
+    public int getScheduledCount() {
+        return scheduled.size();
+    }
+
+    private static List<ActiveMatch> sorted(Collection<ActiveMatch> matches) {
+        List<ActiveMatch> list = new ArrayList<>(matches);
+        list.sort(BY_ID);
+        return list;
+    }
+}
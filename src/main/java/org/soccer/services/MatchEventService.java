@@ -0,0 +1,28 @@
+package org.soccer.services;
+
+import java.util.List;
+
+import org.soccer.interfaces.IMatchEvent;
+import org.soccer.models.MatchEvent;
+import org.soccer.repositories.MatchEventRepository;
+
+public class MatchEventService implements IMatchEvent {
+    private final MatchEventRepository matchEventRepository;
+
+    public MatchEventService(MatchEventRepository matchEventRepository) {
+        this.matchEventRepository = matchEventRepository;
+    }
+
+    @Override
+    public void recordEvents(List<MatchEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        matchEventRepository.saveAll(events);
+    }
+
+    @Override
+    public List<MatchEvent> getEventsByMatch(Long matchId) {
+        return matchEventRepository.findByMatchId(matchId);
+    }
+}
@@ -1,22 +1,48 @@
 package org.soccer.services;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
+import org.soccer.enums.MatchOutcome;
 import org.soccer.enums.MatchStatus;
+import org.soccer.dto.ActiveMatch;
+import org.soccer.dto.MatchSummary;
 import org.soccer.interfaces.IMatch;
+import org.soccer.models.LeagueStandings;
 import org.soccer.models.Match;
+import org.soccer.models.Team;
 import org.soccer.repositories.MatchRepository;
 
 public class MatchService implements IMatch {
     private final MatchRepository matchRepository;
+    private final RatingService ratingService; // null when ratings are applied elsewhere
+    private final LiveMatchRegistry liveMatchRegistry; // null when live matches are not tracked
 
     public MatchService(MatchRepository matchRepository) {
+        this(matchRepository, null);
+    }
+
+    public MatchService(MatchRepository matchRepository, RatingService ratingService) {
+        this(matchRepository, ratingService, null);
+    }
+
+    // Every MatchService that writes matches must share the same registry
+    public MatchService(MatchRepository matchRepository, RatingService ratingService,
+                        LiveMatchRegistry liveMatchRegistry) {
         this.matchRepository = matchRepository;
+        this.ratingService = ratingService;
+        this.liveMatchRegistry = liveMatchRegistry;
+    }
+
+    public LiveMatchRegistry getLiveMatchRegistry() {
+        return liveMatchRegistry;
     }
 
     @Override
     public Match createMatch(Match match) {
         matchRepository.save(match);
+        track(match);
         return match;
     }
 
@@ -26,6 +52,11 @@ public class MatchService implements IMatch {
         if (existing == null) {
             throw new RuntimeException("Match not found");
         }
+        // Participations carry the teams and, once finished, the result
+        boolean participationsChange = existing.getStatus() == MatchStatus.FINISHED
+                || match.getStatus() == MatchStatus.FINISHED
+                || !sameTeam(existing.getHomeTeam(), match.getHomeTeam())
+                || !sameTeam(existing.getAwayTeam(), match.getAwayTeam());
         existing.setHomeTeam(match.getHomeTeam());
         existing.setAwayTeam(match.getAwayTeam());
         existing.setHomeScore(match.getHomeScore());
@@ -33,7 +64,12 @@ public class MatchService implements IMatch {
         existing.setMatchTime(match.getMatchTime());
         existing.setStatus(match.getStatus());
         existing.setLeague(match.getLeague());
-        matchRepository.update(existing);
+        if (participationsChange) {
+            matchRepository.updateWithParticipations(existing);
+        } else {
+            matchRepository.update(existing);
+        }
+        track(existing);
         return existing;
     }
 
@@ -44,6 +80,9 @@ public class MatchService implements IMatch {
             throw new RuntimeException("Match not found");
         }
         matchRepository.delete(match);
+        if (liveMatchRegistry != null) {
+            matchRepository.afterCommit(() -> liveMatchRegistry.remove(id));
+        }
     }
 
     @Override
@@ -60,6 +99,16 @@ public class MatchService implements IMatch {
         return matchRepository.findAll();
     }
 
+    @Override
+    public List<Match> getMatchesAfter(Long afterId, int limit) {
+        return matchRepository.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Stream<Match> streamAllMatches() {
+        return matchRepository.streamAll();
+    }
+
     @Override
     public List<Match> getMatchesByTeam(Long teamId) {
         return matchRepository.findByTeamId(teamId);
@@ -76,16 +125,40 @@ public class MatchService implements IMatch {
         return matchRepository.findByLeagueId(leagueId);
     }
 
+    // Finished matches of the league's current season; earlier seasons were reset away
+    public List<Match> getCurrentSeasonResults(Long leagueId) {
+        return matchRepository.findFinishedInCurrentSeason(leagueId);
+    }
+
+    // The team's latest results, newest first
+    public List<MatchOutcome> getTeamForm(Long teamId, int matches) {
+        return matchRepository.findFormByTeamId(teamId, matches);
+    }
+
     public List<Match> getMatchesByStatus(MatchStatus status) {
         return matchRepository.findByStatus(status);
     }
 
-    public List<Match> getOngoingMatches() {
-        return matchRepository.findOngoingMatches();
+    // Answered from the registry when there is one, without touching the database
+    public List<ActiveMatch> getOngoingMatches() {
+        if (liveMatchRegistry != null) {
+            return liveMatchRegistry.getOngoing();
+        }
+        return activeMatches(MatchStatus.ONGOING);
     }
 
-    public List<Match> getScheduledMatches() {
-        return matchRepository.findScheduledMatches();
+    public List<ActiveMatch> getScheduledMatches() {
+        if (liveMatchRegistry != null) {
+            return liveMatchRegistry.getScheduled();
+        }
+        return activeMatches(MatchStatus.SCHEDULED);
+    }
+
+    // Loads the registry from the database; run once at startup, before any match is played
+    public void reconcileLiveMatches() {
+        if (liveMatchRegistry != null) {
+            liveMatchRegistry.reconcile(matchRepository.findActiveMatches());
+        }
     }
 
     public List<Match> getCompletedMatches() {
@@ -96,18 +169,87 @@ public class MatchService implements IMatch {
         Match match = getMatchById(matchId);
         match.startMatch();
         matchRepository.update(match);
+        track(match);
     }
 
     public void updateMatchScore(Long matchId, int homeScore, int awayScore) {
         Match match = getMatchById(matchId);
         match.setHomeScore(homeScore);
         match.setAwayScore(awayScore);
-        matchRepository.update(match);
+        // A corrected score changes a finished match's result
+        if (match.getStatus() == MatchStatus.FINISHED) {
+            matchRepository.updateWithParticipations(match);
+        } else {
+            matchRepository.update(match);
+        }
+        if (liveMatchRegistry != null) {
+            int matchTime = match.getMatchTime();
+            matchRepository.afterCommit(() -> liveMatchRegistry.progress(matchId, matchTime, homeScore, awayScore));
+        }
     }
 
-    public void finishMatch(Long matchId) {
+    // Marks the match finished; its league effects are applied separately through recordResults,
+    // so a whole round can be counted at once. Returns false when it had already finished.
+    public boolean finishMatch(Long matchId) {
         Match match = getMatchById(matchId);
+        if (match.getStatus() == MatchStatus.FINISHED) {
+            return false; // already counted
+        }
         match.setStatus(MatchStatus.FINISHED);
-        matchRepository.update(match);
+        matchRepository.updateWithParticipations(match);
+        if (liveMatchRegistry != null) {
+            matchRepository.afterCommit(() -> liveMatchRegistry.remove(matchId));
+        }
+        return true;
+    }
+
+    public void recordResult(Match match) {
+        recordResults(List.of(match));
+    }
+
+    // Applies finished matches, in order, to the in-memory league tables and to the teams' ratings.
+    // The tables only change once the results are committed, so a rollback leaves them as they were.
+    public void recordResults(List<Match> matches) {
+        for (Match match : matches) {
+            LeagueStandings standings = match.getLeague().getStandings();
+            matchRepository.afterCommit(() -> standings.recordResult(match));
+        }
+        if (ratingService != null) {
+            ratingService.recordResults(matches);
+        }
+    }
+
+    private static boolean sameTeam(Team current, Team next) {
+        Long currentId = current == null ? null : current.getId();
+        Long nextId = next == null ? null : next.getId();
+        return Objects.equals(currentId, nextId);
+    }
+
+    // Reloads a match that was written through another EntityManager
+    public void refreshMatch(Match match) {
+        matchRepository.refresh(match);
+    }
+
+    public List<MatchSummary> getMatchSummaries() {
+        return matchRepository.findAllSummaries();
+    }
+
+    private List<ActiveMatch> activeMatches(MatchStatus status) {
+        return matchRepository.findActiveMatches().stream()
+                .filter(match -> match.status() == status)
+                .toList();
+    }
+
+    // Mirrors the match's new state into the registry once it commits; finished matches leave it.
+    // The state is copied now, as the entity may change or be detached before the commit.
+    private void track(Match match) {
+        if (liveMatchRegistry != null) {
+            ActiveMatch active = new ActiveMatch(
+                    match.getId(), match.getLeague().getId(),
+                    match.getHomeTeam().getId(), match.getHomeTeam().getName(),
+                    match.getAwayTeam().getId(), match.getAwayTeam().getName(),
+                    match.getStatus(), match.getMatchTime(), match.getHomeScore(), match.getAwayScore());
+            matchRepository.afterCommit(() -> liveMatchRegistry.register(active));
+        }
     }
 }
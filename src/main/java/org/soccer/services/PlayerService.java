@@ -1,21 +1,44 @@
 package org.soccer.services;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.Map;
 
+import org.soccer.dto.PlayerSummary;
+import org.soccer.dto.RosterEntry;
+import org.soccer.dto.TeamPlayerCount;
+import org.soccer.dto.TopScorer;
 import org.soccer.interfaces.IPlayer;
 import org.soccer.models.Player;
 import org.soccer.repositories.PlayerRepository;
 
 public class PlayerService implements IPlayer {
     private final PlayerRepository playerRepository;
+    private final LeaderboardService leaderboardService; // null when nobody follows the scorers
+    private final RosterVersions rosterVersions;
 
     public PlayerService(PlayerRepository playerRepository) {
+        this(playerRepository, null);
+    }
+
+    // Only this service's own changes move the roster versions
+    public PlayerService(PlayerRepository playerRepository, LeaderboardService leaderboardService) {
+        this(playerRepository, leaderboardService, new RosterVersions());
+    }
+
+    public PlayerService(PlayerRepository playerRepository, LeaderboardService leaderboardService,
+                         RosterVersions rosterVersions) {
         this.playerRepository = playerRepository;
+        this.leaderboardService = leaderboardService;
+        this.rosterVersions = rosterVersions;
     }
 
     @Override
     public Player createPlayer(Player player) {
         playerRepository.save(player);
+        Long leagueId = leagueOf(player);
+        playerRepository.afterCommit(() -> playersChanged(leagueId));
         return player;
     }
 
@@ -25,6 +48,8 @@ public class PlayerService implements IPlayer {
         if (existing == null) {
             throw new RuntimeException("Player not found");
         }
+        // A transfer changes the squads of both leagues
+        Long fromLeagueId = leagueOf(existing);
         existing.setName(player.getName());
         existing.setPosition(player.getPosition());
         existing.setShirtNumber(player.getShirtNumber());
@@ -32,6 +57,13 @@ public class PlayerService implements IPlayer {
         existing.setGoalsScored(player.getGoalsScored());
         existing.setTeam(player.getTeam());
         playerRepository.update(existing);
+        Long toLeagueId = leagueOf(existing);
+        playerRepository.afterCommit(() -> {
+            playersChanged(fromLeagueId);
+            if (!toLeagueId.equals(fromLeagueId)) {
+                rosterVersions.changed(toLeagueId);
+            }
+        });
         return existing;
     }
 
@@ -41,7 +73,9 @@ public class PlayerService implements IPlayer {
         if (player == null) {
             throw new RuntimeException("Player not found");
         }
+        Long leagueId = leagueOf(player);
         playerRepository.delete(player);
+        playerRepository.afterCommit(() -> playersChanged(leagueId));
     }
 
     @Override
@@ -58,6 +92,16 @@ public class PlayerService implements IPlayer {
         return playerRepository.findAll();
     }
 
+    @Override
+    public List<Player> getPlayersAfter(Long afterId, int limit) {
+        return playerRepository.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Stream<Player> streamAllPlayers() {
+        return playerRepository.streamAll();
+    }
+
     // Additional methods not in interface but useful
     public List<Player> getPlayersByTeam(Long teamId) {
         return playerRepository.findByTeamId(teamId);
@@ -66,4 +110,75 @@ public class PlayerService implements IPlayer {
     public List<Player> getPlayersByPosition(String position) {
         return playerRepository.findByPosition(position);
     }
+
+    public void addGoals(Map<Long, Integer> goalsByPlayer) {
+        if (goalsByPlayer.isEmpty()) {
+            return;
+        }
+        playerRepository.addGoals(goalsByPlayer);
+        if (leaderboardService != null) {
+            // Totals are read inside the transaction but only published once it commits
+            List<TopScorer> scorers = playerRepository.findScorersByIds(goalsByPlayer.keySet());
+            playerRepository.afterCommit(() -> leaderboardService.recordGoals(scorers));
+        }
+    }
+
+    public void refreshPlayers(Collection<Long> playerIds) {
+        for (Long id : playerIds) {
+            playerRepository.refresh(id);
+        }
+    }
+
+    public List<PlayerSummary> getPlayerSummaries() {
+        return playerRepository.findAllSummaries();
+    }
+
+    public List<RosterEntry> getRosterByLeague(Long leagueId) {
+        return playerRepository.findRosterByLeagueId(leagueId);
+    }
+
+    public List<RosterEntry> getRosterByTeams(Collection<Long> teamIds) {
+        return playerRepository.findRosterByTeamIds(teamIds);
+    }
+
+    public Player getPlayerReference(Long id) {
+        return playerRepository.getReference(id);
+    }
+
+    public long getRosterVersion(Long leagueId) {
+        return rosterVersions.get(leagueId);
+    }
+
+    // Version of every league's squads together
+    public long getRosterVersion() {
+        return rosterVersions.getAny();
+    }
+
+    public LeaderboardService getLeaderboardService() {
+        return leaderboardService;
+    }
+
+    public RosterVersions getRosterVersions() {
+        return rosterVersions;
+    }
+
+    // The league's squads and goal totals may both have changed
+    private void playersChanged(Long leagueId) {
+        rosterVersions.changed(leagueId);
+        if (leaderboardService != null) {
+            leaderboardService.invalidate();
+        }
+    }
+
+    private static Long leagueOf(Player player) {
+        return player.getTeam().getLeague().getId();
+    }
+
+    public List<TeamPlayerCount> countPlayersByTeam() {
+        return playerRepository.countByTeam();
+    }
+
+    public List<TeamPlayerCount> countPlayersByTeam(Long leagueId) {
+        return playerRepository.countByTeam(leagueId);
+    }
 }
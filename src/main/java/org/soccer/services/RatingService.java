@@ -0,0 +1,73 @@
+package org.soccer.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.soccer.models.Match;
+import org.soccer.models.TeamRatingHistory;
+import org.soccer.repositories.TeamRatingRepository;
+
+// Elo ratings. A finished match moves only its two teams, by equal and opposite amounts,
+// so keeping ratings current never needs the rest of the match history.
+public class RatingService {
+    public static final double K_FACTOR = 20.0;
+    public static final double HOME_ADVANTAGE = 65.0; // rating points added to the home side
+
+    private final TeamService teamService;
+    private final TeamRatingRepository teamRatingRepository;
+
+    public RatingService(TeamService teamService, TeamRatingRepository teamRatingRepository) {
+        this.teamService = teamService;
+        this.teamRatingRepository = teamRatingRepository;
+    }
+
+    public void recordResult(Match match) {
+        recordResults(List.of(match));
+    }
+
+    // Finished matches in the order they count, e.g. a round in fixture order. Each moves the
+    // ratings the previous ones left, exactly as if recorded one by one, but the ratings are
+    // read once and every team's total change is written in one batch.
+    public void recordResults(List<Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        Set<Long> teamIds = new HashSet<>();
+        for (Match match : matches) {
+            teamIds.add(match.getHomeTeam().getId());
+            teamIds.add(match.getAwayTeam().getId());
+        }
+        Map<Long, Double> ratings = new HashMap<>(teamService.getRatings(teamIds));
+        List<TeamRatingHistory> history = new ArrayList<>(matches.size() * 2);
+        for (Match match : matches) {
+            Long homeId = match.getHomeTeam().getId();
+            Long awayId = match.getAwayTeam().getId();
+            double change = ratingChange(ratings.get(homeId), ratings.get(awayId),
+                                         match.getHomeScore(), match.getAwayScore());
+            double home = ratings.merge(homeId, change, Double::sum);
+            double away = ratings.merge(awayId, -change, Double::sum);
+            history.add(new TeamRatingHistory(match.getHomeTeam(), match, home, change));
+            history.add(new TeamRatingHistory(match.getAwayTeam(), match, away, -change));
+        }
+        teamRatingRepository.saveRatingChanges(history);
+    }
+
+    public List<TeamRatingHistory> getRatingHistory(Long teamId) {
+        return teamRatingRepository.findHistoryByTeamId(teamId);
+    }
+
+    // Expected score of the home side (win 1, draw 0.5), home advantage included
+    public static double expectedHomeScore(double homeRating, double awayRating) {
+        return 1.0 / (1.0 + Math.pow(10.0, (awayRating - homeRating - HOME_ADVANTAGE) / 400.0));
+    }
+
+    // Points the home side gains from a result; the away side loses the same amount
+    public static double ratingChange(double homeRating, double awayRating, int homeGoals, int awayGoals) {
+        double actual = homeGoals > awayGoals ? 1.0 : homeGoals == awayGoals ? 0.5 : 0.0;
+        return K_FACTOR * (actual - expectedHomeScore(homeRating, awayRating));
+    }
+}
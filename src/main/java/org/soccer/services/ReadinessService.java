@@ -0,0 +1,59 @@
+package org.soccer.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.soccer.dto.LeagueReadiness;
+import org.soccer.dto.LeagueTeamCount;
+import org.soccer.dto.TeamPlayerCount;
+import org.soccer.models.League;
+
+// Simulation preconditions checked from aggregate counts: two queries for every league
+// in the system, one for a single league, no entities loaded.
+public class ReadinessService {
+    public static final int MIN_TEAMS = 4;
+    public static final int MIN_PLAYERS = 4;
+    public static final int MAX_PLAYERS = 5;
+
+    private final TeamService teamService;
+    private final PlayerService playerService;
+
+    public ReadinessService(TeamService teamService, PlayerService playerService) {
+        this.teamService = teamService;
+        this.playerService = playerService;
+    }
+
+    public List<LeagueReadiness> getReadinessReport() {
+        Map<Long, List<TeamPlayerCount>> teamsByLeague = new HashMap<>();
+        for (TeamPlayerCount team : playerService.countPlayersByTeam()) {
+            teamsByLeague.computeIfAbsent(team.leagueId(), id -> new ArrayList<>()).add(team);
+        }
+
+        List<LeagueReadiness> report = new ArrayList<>();
+        for (LeagueTeamCount league : teamService.countTeamsByLeague()) {
+            report.add(check(league.leagueId(), league.leagueName(),
+                             teamsByLeague.getOrDefault(league.leagueId(), List.of())));
+        }
+        return report;
+    }
+
+    public LeagueReadiness getReadiness(League league) {
+        return check(league.getId(), league.getName(), playerService.countPlayersByTeam(league.getId()));
+    }
+
+    private static LeagueReadiness check(Long leagueId, String leagueName, List<TeamPlayerCount> teams) {
+        List<String> problems = new ArrayList<>();
+        if (teams.size() < MIN_TEAMS) {
+            problems.add("League must have at least " + MIN_TEAMS + " teams to simulate.");
+        }
+        for (TeamPlayerCount team : teams) {
+            if (team.playerCount() < MIN_PLAYERS || team.playerCount() > MAX_PLAYERS) {
+                problems.add("Team '" + team.teamName() + "' must have between " + MIN_PLAYERS + " and "
+                             + MAX_PLAYERS + " players. Current: " + team.playerCount());
+            }
+        }
+        return new LeagueReadiness(leagueId, leagueName, teams.size(), problems);
+    }
+}
@@ -0,0 +1,29 @@
+package org.soccer.services;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Roster version per league, bumped once a change to one of its squads commits, whichever
+// EntityManager made it. A roster snapshot remembers the version it was loaded at and is stale
+// once that moves; changes in other leagues leave it alone. One instance is shared by the
+// services of an application, as the LeaderboardService is.
+public class RosterVersions {
+    private final ConcurrentMap<Long, AtomicLong> byLeague = new ConcurrentHashMap<>();
+    private final AtomicLong any = new AtomicLong();
+
+    public long get(Long leagueId) {
+        AtomicLong version = byLeague.get(leagueId);
+        return version == null ? 0 : version.get();
+    }
+
+    // Moves with every change in any league, for snapshots of teams picked across leagues
+    public long getAny() {
+        return any.get();
+    }
+
+    public void changed(Long leagueId) {
+        byLeague.computeIfAbsent(leagueId, id -> new AtomicLong()).incrementAndGet();
+        any.incrementAndGet();
+    }
+}
@@ -1,16 +1,34 @@
 package org.soccer.services;
 
+import org.soccer.dto.LeagueTeamCount;
+import org.soccer.dto.TeamSummary;
 import org.soccer.interfaces.ITeam;
 import org.soccer.models.Team;
 import org.soccer.repositories.TeamRepository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public class TeamService implements ITeam {
     private final TeamRepository teamRepository;
+    private final LeaderboardService leaderboardService; // null when nobody follows the scorers
+    private final RosterVersions rosterVersions; // null when no roster snapshots are kept
 
     public TeamService(TeamRepository teamRepository) {
+        this(teamRepository, null, null);
+    }
+
+    public TeamService(TeamRepository teamRepository, LeaderboardService leaderboardService) {
+        this(teamRepository, leaderboardService, null);
+    }
+
+    public TeamService(TeamRepository teamRepository, LeaderboardService leaderboardService,
+                       RosterVersions rosterVersions) {
         this.teamRepository = teamRepository;
+        this.leaderboardService = leaderboardService;
+        this.rosterVersions = rosterVersions;
     }
 
     @Override
@@ -25,12 +43,23 @@ public class TeamService implements ITeam {
         if (existing == null) {
             throw new RuntimeException("Team not found");
         }
+        Long fromLeagueId = existing.getLeague().getId();
         existing.setName(team.getName());
         existing.setCoachName(team.getCoachName());
         existing.setTotalPoints(team.getTotalPoints());
         existing.setScore(team.getScore());
         existing.setLeague(team.getLeague());
         teamRepository.update(existing);
+        // A new name or league changes the team's lines on the leaderboards, and a new league
+        // moves its squad between the two leagues' rosters
+        Long toLeagueId = existing.getLeague().getId();
+        teamRepository.afterCommit(() -> {
+            if (!toLeagueId.equals(fromLeagueId)) {
+                rostersChanged(fromLeagueId);
+                rostersChanged(toLeagueId);
+            }
+            invalidateLeaderboards();
+        });
         return existing;
     }
 
@@ -40,7 +69,13 @@ public class TeamService implements ITeam {
         if (team == null) {
             throw new RuntimeException("Team not found");
         }
+        Long leagueId = team.getLeague().getId();
         teamRepository.delete(team);
+        // The team's players go with it
+        teamRepository.afterCommit(() -> {
+            rostersChanged(leagueId);
+            invalidateLeaderboards();
+        });
     }
 
     @Override
@@ -57,6 +92,16 @@ public class TeamService implements ITeam {
         return teamRepository.findAll();
     }
 
+    @Override
+    public List<Team> getTeamsAfter(Long afterId, int limit) {
+        return teamRepository.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Stream<Team> streamAllTeams() {
+        return teamRepository.streamAll();
+    }
+
     // Additional methods not in interface but useful
     public List<Team> getTeamsByLeague(Long leagueId) {
         return teamRepository.findByLeagueId(leagueId);
@@ -70,10 +115,23 @@ public class TeamService implements ITeam {
         return teamRepository.findByCoachName(coachName);
     }
 
+    // One atomic UPDATE; safe against other writers and no read of the team
     public void addPointsToTeam(Long teamId, int points) {
-        Team team = getTeamById(teamId);
-        team.setTotalPoints(team.getTotalPoints() + points);
-        teamRepository.update(team);
+        if (teamRepository.addPoints(teamId, points) == 0) {
+            throw new RuntimeException("Team not found");
+        }
+    }
+
+    // Points of several teams, e.g. a whole round's, in one batch
+    public void addPoints(Map<Long, Integer> pointsByTeam) {
+        if (teamRepository.addPoints(pointsByTeam) < pointsByTeam.size()) {
+            throw new RuntimeException("Team not found");
+        }
+    }
+
+    // Current ratings read from the database, so a copy held since before an update is never used
+    public Map<Long, Double> getRatings(Collection<Long> teamIds) {
+        return teamRepository.findRatings(teamIds);
     }
 
     public void resetTeamScore(Long teamId) {
@@ -81,4 +139,24 @@ public class TeamService implements ITeam {
         team.resetScore();
         teamRepository.update(team);
     }
+
+    private void invalidateLeaderboards() {
+        if (leaderboardService != null) {
+            leaderboardService.invalidate();
+        }
+    }
+
+    private void rostersChanged(Long leagueId) {
+        if (rosterVersions != null) {
+            rosterVersions.changed(leagueId);
+        }
+    }
+
+    public List<TeamSummary> getTeamSummaries() {
+        return teamRepository.findAllSummaries();
+    }
+
+    public List<LeagueTeamCount> countTeamsByLeague() {
+        return teamRepository.countByLeague();
+    }
 }
@@ -0,0 +1,102 @@
+package org.soccer.simulation;
+
+import java.util.Objects;
+
+// Round-robin schedule over team indices 0..teamCount-1, computed on demand with the
+// circle method: nothing is materialized, so any pairing of any round is O(1) and a
+// schedule for thousands of teams costs a few ints.
+//
+// Index teamCount-1 (or, for an odd count, a virtual bye index teamCount) stays fixed
+// while the others rotate. Within a leg home and away alternate with at most one break
+// per team, the minimum possible. A double round robin repeats the first leg with
+// venues swapped.
+public class FixtureSchedule {
+    private final int teamCount;
+    private final int roundsPerLeg;
+    private final int slotsPerRound;
+    private final int legs;
+
+    public FixtureSchedule(int teamCount, boolean homeAndAway) {
+        if (teamCount < 2) {
+            throw new IllegalArgumentException("A schedule needs at least 2 teams");
+        }
+        int slots = teamCount + (teamCount % 2);
+        this.teamCount = teamCount;
+        this.roundsPerLeg = slots - 1;
+        this.slotsPerRound = slots / 2;
+        this.legs = homeAndAway ? 2 : 1;
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public int getRounds() {
+        return roundsPerLeg * legs;
+    }
+
+    // Pairings per round, including the bye when the team count is odd
+    public int getSlotsPerRound() {
+        return slotsPerRound;
+    }
+
+    public int getMatchesPerRound() {
+        return teamCount / 2;
+    }
+
+    public int getTotalMatches() {
+        return getRounds() * getMatchesPerRound();
+    }
+
+    public int home(int round, int slot) {
+        return isFirstHome(round, slot) ? first(round, slot) : second(round, slot);
+    }
+
+    public int away(int round, int slot) {
+        return isFirstHome(round, slot) ? second(round, slot) : first(round, slot);
+    }
+
+    // One team of the slot sits out the round
+    public boolean isBye(int round, int slot) {
+        return second(round, slot) == teamCount;
+    }
+
+    // Every real match of the round, in slot order
+    public void forEachMatch(int round, MatchConsumer consumer) {
+        for (int slot = 0; slot < slotsPerRound; slot++) {
+            if (!isBye(round, slot)) {
+                consumer.accept(home(round, slot), away(round, slot));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface MatchConsumer {
+        void accept(int home, int away);
+    }
+
+    // Helper methods
+
+    // Slot 0 pairs the rotating team r with the fixed index; slot i pairs r+i with r-i
+    private int first(int round, int slot) {
+        int r = legRound(round, slot);
+        return slot == 0 ? r : (r + slot) % roundsPerLeg;
+    }
+
+    private int second(int round, int slot) {
+        int r = legRound(round, slot);
+        return slot == 0 ? roundsPerLeg : (r - slot + roundsPerLeg) % roundsPerLeg;
+    }
+
+    private boolean isFirstHome(int round, int slot) {
+        int r = legRound(round, slot);
+        boolean firstHome = slot == 0 ? r % 2 == 0 : slot % 2 == 1;
+        return round < roundsPerLeg ? firstHome : !firstHome;
+    }
+
+    private int legRound(int round, int slot) {
+        Objects.checkIndex(round, getRounds());
+        Objects.checkIndex(slot, slotsPerRound);
+        return round % roundsPerLeg;
+    }
+}
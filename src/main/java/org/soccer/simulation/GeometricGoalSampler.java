@@ -0,0 +1,25 @@
+package org.soccer.simulation;
+
+import java.util.random.RandomGenerator;
+
+// Jumps straight to the next goal. The number of goalless minutes before a goal is
+// geometric, so it is drawn by inversion from a single uniform: one draw per goal plus
+// one for the final whistle instead of one per minute, and the same distribution.
+public class GeometricGoalSampler implements GoalSampler {
+    private final double logMissChance;
+
+    public GeometricGoalSampler(double goalChancePerMinute) {
+        if (goalChancePerMinute <= 0 || goalChancePerMinute >= 1) {
+            throw new IllegalArgumentException("Goal chance per minute must be between 0 and 1");
+        }
+        this.logMissChance = Math.log1p(-goalChancePerMinute);
+    }
+
+    @Override
+    public int nextGoalMinute(int previousMinute, int lastMinute, RandomGenerator random) {
+        // 1 - u lies in (0, 1], so the logarithm is finite
+        double goallessMinutes = Math.floor(Math.log(1.0 - random.nextDouble()) / logMissChance);
+        double minute = previousMinute + 1 + goallessMinutes;
+        return minute > lastMinute ? lastMinute + 1 : (int) minute;
+    }
+}
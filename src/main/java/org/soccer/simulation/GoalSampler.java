@@ -0,0 +1,10 @@
+package org.soccer.simulation;
+
+import java.util.random.RandomGenerator;
+
+// Decides when goals happen in a match where every minute carries the same goal chance
+public interface GoalSampler {
+
+    // Minute of the next goal after previousMinute, or lastMinute + 1 when there is none
+    int nextGoalMinute(int previousMinute, int lastMinute, RandomGenerator random);
+}
@@ -0,0 +1,200 @@
+package org.soccer.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+import org.soccer.models.Match;
+
+// Plays ongoing matches in compressed real time. One clock thread advances every live match
+// by a minute per tick, so thousands of fixtures cost one thread and a few fields each; the
+// state is plain data rather than Match entities, which belong to an EntityManager.
+// Events go to subscribers through a SubmissionPublisher with a bounded buffer per subscriber.
+// When a buffer is full, MINUTE events are dropped and every other event waits for room:
+// a slow subscriber holds back the clock instead of growing memory or losing results.
+public class LiveMatchEngine implements AutoCloseable {
+    private final ScheduledExecutorService clock;
+    private final SubmissionPublisher<LiveMatchEvent> publisher;
+    private final GoalSampler goalSampler;
+    private final Queue<LiveMatch> kickOffs = new ConcurrentLinkedQueue<>();
+    private final List<LiveMatch> live = new ArrayList<>(); // clock thread only
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private volatile int liveCount;
+
+    // timeCompression is match minutes per real minute: 90 plays a match in one real minute
+    public LiveMatchEngine(double timeCompression) {
+        this(timeCompression, ForkJoinPool.commonPool(), Flow.defaultBufferSize(),
+             new GeometricGoalSampler(MatchSimulator.GOAL_CHANCE_PER_MINUTE));
+    }
+
+    // Subscribers are called on the executor; bufferCapacity bounds the events queued for each
+    public LiveMatchEngine(double timeCompression, Executor executor, int bufferCapacity, GoalSampler goalSampler) {
+        if (timeCompression <= 0) {
+            throw new IllegalArgumentException("Time compression must be positive");
+        }
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        this.goalSampler = goalSampler;
+        this.clock = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-match-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickNanos = Math.max(1, Math.round(TimeUnit.MINUTES.toNanos(1) / timeCompression));
+        clock.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void subscribe(Flow.Subscriber<? super LiveMatchEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    // Starts the match on the next tick. The match must already be ONGOING in the database;
+    // the future completes at full time, before the result is written by any subscriber.
+    public CompletableFuture<MatchResult> kickOff(Match match, RosterSnapshot roster, double homeShare,
+                                                  RandomGenerator random) {
+        if (clock.isShutdown()) {
+            throw new IllegalStateException("Live match engine is closed");
+        }
+        LiveMatch liveMatch = new LiveMatch(match, roster, homeShare, random);
+        liveMatch.nextGoal = goalSampler.nextGoalMinute(0, MatchSimulator.MATCH_MINUTES, random);
+        kickOffs.add(liveMatch);
+        return liveMatch.result;
+    }
+
+    // Matches kicked off and not yet at full time
+    public int getLiveMatchCount() {
+        return liveCount + kickOffs.size();
+    }
+
+    // MINUTE events that did not fit a subscriber's buffer
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    // Stops the clock; subscribers receive what is buffered and then onComplete.
+    // Matches still playing are abandoned and their futures cancelled.
+    @Override
+    public void close() {
+        clock.shutdown();
+        try {
+            clock.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        publisher.close();
+        live.forEach(match -> match.result.cancel(false));
+        kickOffs.forEach(match -> match.result.cancel(false));
+    }
+
+    private void tick() {
+        for (LiveMatch match = kickOffs.poll(); match != null; match = kickOffs.poll()) {
+            live.add(match);
+            publish(match.event(LiveMatchEvent.Type.KICK_OFF, null, null));
+        }
+        for (LiveMatch match : live) {
+            try {
+                advance(match);
+            } catch (RuntimeException e) {
+                // One broken fixture must not stop the clock for the others
+                match.result.completeExceptionally(e);
+            }
+        }
+        live.removeIf(match -> match.result.isDone());
+        liveCount = live.size();
+    }
+
+    private void advance(LiveMatch match) {
+        match.minute++;
+        MatchResult.Goal goal = null;
+        if (match.minute == match.nextGoal) {
+            goal = match.score();
+            match.nextGoal = goalSampler.nextGoalMinute(match.minute, MatchSimulator.MATCH_MINUTES, match.random);
+        }
+        if (match.minute == MatchSimulator.MATCH_MINUTES) {
+            MatchResult result = new MatchResult(match.homeGoals, match.awayGoals, List.copyOf(match.goals));
+            if (goal != null) {
+                publish(match.event(LiveMatchEvent.Type.GOAL, goal, null));
+            }
+            publish(match.event(LiveMatchEvent.Type.FULL_TIME, null, result));
+            match.result.complete(result);
+        } else if (goal != null) {
+            publish(match.event(LiveMatchEvent.Type.GOAL, goal, null));
+        } else {
+            publish(match.event(LiveMatchEvent.Type.MINUTE, null, null));
+        }
+    }
+
+    private void publish(LiveMatchEvent event) {
+        if (event.isDroppable()) {
+            publisher.offer(event, (subscriber, dropped) -> {
+                droppedEvents.incrementAndGet();
+                return false;
+            });
+        } else {
+            // Blocks the clock until every subscriber has room
+            publisher.submit(event);
+        }
+    }
+
+    // One fixture's running state; the ids are copied so no entity is touched after kick-off
+    private static final class LiveMatch {
+        final Long matchId;
+        final Long leagueId;
+        final Long homeTeamId;
+        final Long awayTeamId;
+        final RosterSnapshot roster;
+        final int homeTeam;
+        final int awayTeam;
+        final double homeShare;
+        final RandomGenerator random;
+        final List<MatchResult.Goal> goals = new ArrayList<>();
+        final CompletableFuture<MatchResult> result = new CompletableFuture<>();
+        int minute;
+        int nextGoal;
+        int homeGoals;
+        int awayGoals;
+
+        LiveMatch(Match match, RosterSnapshot roster, double homeShare, RandomGenerator random) {
+            this.matchId = match.getId();
+            this.leagueId = match.getLeague().getId();
+            this.homeTeamId = match.getHomeTeam().getId();
+            this.awayTeamId = match.getAwayTeam().getId();
+            this.roster = roster;
+            this.homeTeam = roster.teamIndex(homeTeamId);
+            this.awayTeam = roster.teamIndex(awayTeamId);
+            this.homeShare = homeShare;
+            this.random = random;
+        }
+
+        // Same draw as MatchSimulator: the side by rating, then one of its attackers
+        MatchResult.Goal score() {
+            boolean home = random.nextDouble() < homeShare;
+            int team = home ? homeTeam : awayTeam;
+            int scorer = roster.attacker(team, random.nextInt(roster.attackerCount(team)));
+            MatchResult.Goal goal = new MatchResult.Goal(roster.playerId(scorer), roster.playerName(scorer),
+                                                         home, minute);
+            goals.add(goal);
+            if (home) {
+                homeGoals++;
+            } else {
+                awayGoals++;
+            }
+            return goal;
+        }
+
+        LiveMatchEvent event(LiveMatchEvent.Type type, MatchResult.Goal goal, MatchResult result) {
+            return new LiveMatchEvent(type, matchId, leagueId, homeTeamId, awayTeamId,
+                                      minute, homeGoals, awayGoals, goal, result);
+        }
+    }
+}
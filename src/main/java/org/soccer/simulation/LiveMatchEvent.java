@@ -0,0 +1,18 @@
+package org.soccer.simulation;
+
+// What happened to one live match on one tick of the LiveMatchEngine clock.
+// Every match publishes KICK_OFF, then one event per minute: GOAL when somebody scored,
+// FULL_TIME at the last minute, MINUTE otherwise. Only FULL_TIME carries the result.
+public record LiveMatchEvent(Type type, Long matchId, Long leagueId, Long homeTeamId, Long awayTeamId,
+                             int minute, int homeScore, int awayScore, MatchResult.Goal goal, MatchResult result) {
+
+    public enum Type {
+        KICK_OFF, MINUTE, GOAL, FULL_TIME
+    }
+
+    // MINUTE events are superseded by the next one, so a slow subscriber may miss some;
+    // every other event is delivered
+    public boolean isDroppable() {
+        return type == Type.MINUTE;
+    }
+}
@@ -0,0 +1,99 @@
+package org.soccer.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+
+import org.soccer.repositories.MatchEventRepository;
+import org.soccer.repositories.MatchRepository;
+import org.soccer.repositories.PlayerRepository;
+import org.soccer.repositories.TeamRepository;
+import org.soccer.repositories.TransactionTemplate;
+import org.soccer.services.LeaderboardService;
+import org.soccer.services.LiveMatchRegistry;
+import org.soccer.services.MatchEventService;
+import org.soccer.services.MatchService;
+import org.soccer.services.PlayerService;
+import org.soccer.services.TeamService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// Subscriber that persists each live match at full time: goals, event log, score and status,
+// as MatchSimulator does for a match it plays. Runs in its own EntityManager, one event at a
+// time, and asks for the next event only when done with the last, so the engine never runs
+// further ahead than the publisher's buffer. Standings, ratings and points belong to the
+// thread that owns the league tables: it drains the written results and applies them there,
+// as RoundExecutor does after a round.
+public class LiveResultWriter implements Flow.Subscriber<LiveMatchEvent> {
+    private final EntityManager em;
+    private final MatchService matchService;
+    private final MatchSimulator matchSimulator;
+    private final Queue<LiveMatchEvent> written = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+
+    // Either service may be null; the writer then leaves leaderboards or the live registry alone
+    public LiveResultWriter(EntityManagerFactory emf, LeaderboardService leaderboardService,
+                            LiveMatchRegistry liveMatchRegistry) {
+        this.em = emf.createEntityManager();
+        PlayerService players = new PlayerService(new PlayerRepository(em), leaderboardService);
+        TeamService teams = new TeamService(new TeamRepository(em));
+        this.matchService = new MatchService(new MatchRepository(em), null, liveMatchRegistry);
+        this.matchSimulator = new MatchSimulator(new TransactionTemplate(em), players, teams, matchService,
+                                                 new MatchEventService(new MatchEventRepository(em)));
+    }
+
+    // FULL_TIME events whose match has been committed since the last call, in the order written
+    public List<LiveMatchEvent> drainWritten() {
+        List<LiveMatchEvent> events = new ArrayList<>();
+        for (LiveMatchEvent event = written.poll(); event != null; event = written.poll()) {
+            events.add(event);
+        }
+        return events;
+    }
+
+    // Completes once every delivered result has been written and the engine has closed; the
+    // results still waiting to be drained are then complete
+    public CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(LiveMatchEvent event) {
+        if (event.type() == LiveMatchEvent.Type.FULL_TIME) {
+            try {
+                matchSimulator.recordFullTime(matchService.getMatchById(event.matchId()), event.result(), false);
+                written.add(event);
+                // Written matches are not needed again; keep the context from growing over the matchday
+                em.clear();
+            } catch (RuntimeException e) {
+                subscription.cancel();
+                onError(e);
+                return;
+            }
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        em.close();
+        completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        em.close();
+        completion.complete(null);
+    }
+}
@@ -0,0 +1,35 @@
+package org.soccer.simulation;
+
+import java.util.concurrent.Flow;
+
+import org.soccer.services.LiveMatchRegistry;
+
+// Subscriber that copies each live match's minute and score into the registry, so readers
+// see the game as it is played rather than as last written. It does no I/O and takes events
+// as fast as they come; matches enter and leave the registry through MatchService.
+public class LiveScoreFeed implements Flow.Subscriber<LiveMatchEvent> {
+    private final LiveMatchRegistry liveMatchRegistry;
+
+    public LiveScoreFeed(LiveMatchRegistry liveMatchRegistry) {
+        this.liveMatchRegistry = liveMatchRegistry;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(LiveMatchEvent event) {
+        liveMatchRegistry.progress(event.matchId(), event.minute(), event.homeScore(), event.awayScore());
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        // Scores stay at their last value; the result writer still finishes the matches
+    }
+
+    @Override
+    public void onComplete() {
+    }
+}
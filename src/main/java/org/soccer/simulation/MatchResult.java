@@ -0,0 +1,21 @@
+package org.soccer.simulation;
+
+import java.util.List;
+
+// Outcome of a simulated match, including every goal in the order it was scored
+public record MatchResult(int homeGoals, int awayGoals, List<Goal> goals) {
+
+    public record Goal(Long playerId, String playerName, boolean home, int minute) {}
+
+    public boolean isHomeWin() {
+        return homeGoals > awayGoals;
+    }
+
+    public boolean isAwayWin() {
+        return awayGoals > homeGoals;
+    }
+
+    public boolean isDraw() {
+        return homeGoals == awayGoals;
+    }
+}
@@ -0,0 +1,183 @@
+package org.soccer.simulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import org.soccer.enums.MatchEventType;
+import org.soccer.models.Match;
+import org.soccer.models.MatchEvent;
+import org.soccer.repositories.TransactionTemplate;
+import org.soccer.services.MatchEventService;
+import org.soccer.services.MatchService;
+import org.soccer.services.PlayerService;
+import org.soccer.services.RatingService;
+import org.soccer.services.TeamService;
+
+public class MatchSimulator {
+    public static final int MATCH_MINUTES = 90;
+    public static final double GOAL_CHANCE_PER_MINUTE = 0.05;
+
+    private final TransactionTemplate transactionTemplate;
+    private final PlayerService playerService;
+    private final TeamService teamService;
+    private final MatchService matchService;
+    private final MatchEventService matchEventService;
+    private final GoalSampler goalSampler;
+
+    public MatchSimulator(TransactionTemplate transactionTemplate, PlayerService playerService,
+                          TeamService teamService, MatchService matchService, MatchEventService matchEventService) {
+        this(transactionTemplate, playerService, teamService, matchService, matchEventService,
+             new GeometricGoalSampler(GOAL_CHANCE_PER_MINUTE));
+    }
+
+    public MatchSimulator(TransactionTemplate transactionTemplate, PlayerService playerService,
+                          TeamService teamService, MatchService matchService, MatchEventService matchEventService,
+                          GoalSampler goalSampler) {
+        this.transactionTemplate = transactionTemplate;
+        this.playerService = playerService;
+        this.teamService = teamService;
+        this.matchService = matchService;
+        this.matchEventService = matchEventService;
+        this.goalSampler = goalSampler;
+    }
+
+    public GoalSampler getGoalSampler() {
+        return goalSampler;
+    }
+
+    // Plays a scheduled match to full time, persists the result and counts it for the league
+    public MatchResult simulate(Match match) {
+        return simulate(match, rosterOf(match));
+    }
+
+    // Same, choosing scorers from a season-wide roster snapshot instead of loading the squads
+    public MatchResult simulate(Match match, RosterSnapshot roster) {
+        return play(match, roster, ThreadLocalRandom.current(), true);
+    }
+
+    // Same, drawing from the given stream so the match can be replayed
+    public MatchResult simulate(Match match, RosterSnapshot roster, RandomGenerator random) {
+        return play(match, roster, random, true);
+    }
+
+    // Plays and persists the match itself; the caller counts it, usually with the rest of the
+    // round, through applyResults
+    public MatchResult play(Match match) {
+        return play(match, rosterOf(match));
+    }
+
+    public MatchResult play(Match match, RosterSnapshot roster) {
+        return play(match, roster, ThreadLocalRandom.current(), false);
+    }
+
+    public MatchResult play(Match match, RosterSnapshot roster, RandomGenerator random) {
+        return play(match, roster, random, false);
+    }
+
+    private MatchResult play(Match match, RosterSnapshot roster, RandomGenerator random, boolean countResult) {
+        // Start match
+        matchService.startMatch(match.getId());
+
+        int homeGoals = 0;
+        int awayGoals = 0;
+        List<MatchResult.Goal> goals = new ArrayList<>();
+
+        int homeTeam = roster.teamIndex(match.getHomeTeam().getId());
+        int awayTeam = roster.teamIndex(match.getAwayTeam().getId());
+        double homeShare = homeGoalShare(match, roster);
+
+        // Jump from goal to goal rather than rolling every minute
+        for (int minute = goalSampler.nextGoalMinute(0, MATCH_MINUTES, random);
+             minute <= MATCH_MINUTES;
+             minute = goalSampler.nextGoalMinute(minute, MATCH_MINUTES, random)) {
+            // Determine which team scores, weighted by rating
+            boolean home = random.nextDouble() < homeShare;
+            int team = home ? homeTeam : awayTeam;
+            int scorer = roster.attacker(team, random.nextInt(roster.attackerCount(team)));
+            goals.add(new MatchResult.Goal(roster.playerId(scorer), roster.playerName(scorer), home, minute));
+            if (home) {
+                homeGoals++;
+            } else {
+                awayGoals++;
+            }
+        }
+        match.setMatchTime(MATCH_MINUTES);
+
+        MatchResult result = new MatchResult(homeGoals, awayGoals, goals);
+        recordFullTime(match, result, countResult);
+        return result;
+    }
+
+    // Persists a match that has reached full time, however it was played. One unit of work:
+    // the scorers' goals, the event log, final score, status and, if asked, its league effects.
+    public void recordFullTime(Match match, MatchResult result, boolean countResult) {
+        // Goal increments are buffered and written once
+        Map<Long, Integer> goalsByPlayer = new HashMap<>();
+        List<MatchEvent> events = new ArrayList<>(result.goals().size() + 1);
+        int homeGoals = 0;
+        int awayGoals = 0;
+        for (MatchResult.Goal goal : result.goals()) {
+            goalsByPlayer.merge(goal.playerId(), 1, Integer::sum);
+            if (goal.home()) {
+                homeGoals++;
+            } else {
+                awayGoals++;
+            }
+            events.add(new MatchEvent(match, goal.minute(), MatchEventType.GOAL,
+                                      goal.home() ? match.getHomeTeam() : match.getAwayTeam(),
+                                      playerService.getPlayerReference(goal.playerId()),
+                                      homeGoals, awayGoals));
+        }
+        events.add(new MatchEvent(match, MATCH_MINUTES, MatchEventType.FULL_TIME, null, null, homeGoals, awayGoals));
+
+        transactionTemplate.execute(() -> {
+            playerService.addGoals(goalsByPlayer);
+            matchEventService.recordEvents(events);
+            matchService.updateMatchScore(match.getId(), result.homeGoals(), result.awayGoals());
+            if (matchService.finishMatch(match.getId()) && countResult) {
+                applyResults(List.of(matchService.getMatchById(match.getId())), List.of(result));
+            }
+        });
+    }
+
+    // League effects of finished matches, in order: standings once committed, ratings and points.
+    // Ratings and points of all the matches are written as one batch each.
+    public void applyResults(List<Match> matches, List<MatchResult> results) {
+        Map<Long, Integer> pointsByTeam = new HashMap<>();
+        for (int i = 0; i < matches.size(); i++) {
+            addPoints(pointsByTeam, matches.get(i), results.get(i));
+        }
+        transactionTemplate.execute(() -> {
+            matchService.recordResults(matches);
+            teamService.addPoints(pointsByTeam);
+        });
+    }
+
+    private static void addPoints(Map<Long, Integer> pointsByTeam, Match match, MatchResult result) {
+        if (result.isHomeWin()) {
+            pointsByTeam.merge(match.getHomeTeam().getId(), 3, Integer::sum);
+        } else if (result.isAwayWin()) {
+            pointsByTeam.merge(match.getAwayTeam().getId(), 3, Integer::sum);
+        } else {
+            pointsByTeam.merge(match.getHomeTeam().getId(), 1, Integer::sum);
+            pointsByTeam.merge(match.getAwayTeam().getId(), 1, Integer::sum);
+        }
+    }
+
+    // Share of the match's goals expected to go to the home side: its Elo expected score from
+    // the snapshot's ratings, so equal teams split them with only the home advantage in between
+    public static double homeGoalShare(Match match, RosterSnapshot roster) {
+        int homeTeam = roster.teamIndex(match.getHomeTeam().getId());
+        int awayTeam = roster.teamIndex(match.getAwayTeam().getId());
+        return RatingService.expectedHomeScore(roster.rating(homeTeam), roster.rating(awayTeam));
+    }
+
+    // Both squads of a one-off match, in one query
+    private RosterSnapshot rosterOf(Match match) {
+        return RosterSnapshot.ofTeams(List.of(match.getHomeTeam().getId(), match.getAwayTeam().getId()), playerService);
+    }
+}
@@ -0,0 +1,22 @@
+package org.soccer.simulation;
+
+import java.util.random.RandomGenerator;
+
+// Reference model: one draw per minute. Kept for the distribution check.
+public class PerMinuteGoalSampler implements GoalSampler {
+    private final double goalChancePerMinute;
+
+    public PerMinuteGoalSampler(double goalChancePerMinute) {
+        this.goalChancePerMinute = goalChancePerMinute;
+    }
+
+    @Override
+    public int nextGoalMinute(int previousMinute, int lastMinute, RandomGenerator random) {
+        for (int minute = previousMinute + 1; minute <= lastMinute; minute++) {
+            if (random.nextDouble() < goalChancePerMinute) {
+                return minute;
+            }
+        }
+        return lastMinute + 1;
+    }
+}
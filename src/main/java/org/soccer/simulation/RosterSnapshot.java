@@ -0,0 +1,143 @@
+package org.soccer.simulation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.soccer.dto.RosterEntry;
+import org.soccer.enums.PlayerPosition;
+import org.soccer.models.Match;
+import org.soccer.services.PlayerService;
+import org.soccer.services.RatingService;
+
+// Read-only view of the squads taken once per season: players as parallel arrays and,
+// per team, the indices of the players who can score and the team's rating. Picking a
+// scorer is two array reads. Immutable, so the matches of a round can share it across
+// threads; withResults moves the ratings forward between rounds without a query.
+public class RosterSnapshot {
+    private final Long leagueId; // null for teams picked across leagues
+    private final long version;
+    private final Map<Long, Integer> teamIndexById;
+    private final long[] playerIds;
+    private final String[] playerNames;
+    private final int[][] attackersByTeam;
+    private final double[] ratings;
+
+    private RosterSnapshot(Long leagueId, long version, List<RosterEntry> entries) {
+        this.leagueId = leagueId;
+        this.version = version;
+        this.teamIndexById = new HashMap<>();
+        this.playerIds = new long[entries.size()];
+        this.playerNames = new String[entries.size()];
+
+        int[] attackerCounts = new int[entries.size()];
+        double[] teamRatings = new double[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            RosterEntry entry = entries.get(i);
+            playerIds[i] = entry.playerId();
+            playerNames[i] = entry.playerName();
+            int team = teamIndexById.computeIfAbsent(entry.teamId(), id -> teamIndexById.size());
+            teamRatings[team] = entry.teamRating();
+            if (isAttacker(entry.position())) {
+                attackerCounts[team]++;
+            }
+        }
+        this.ratings = Arrays.copyOf(teamRatings, teamIndexById.size());
+
+        this.attackersByTeam = new int[teamIndexById.size()][];
+        for (int team = 0; team < attackersByTeam.length; team++) {
+            attackersByTeam[team] = new int[attackerCounts[team]];
+            attackerCounts[team] = 0;
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            RosterEntry entry = entries.get(i);
+            if (isAttacker(entry.position())) {
+                int team = teamIndexById.get(entry.teamId());
+                attackersByTeam[team][attackerCounts[team]++] = i;
+            }
+        }
+    }
+
+    // Same squads, new ratings
+    private RosterSnapshot(RosterSnapshot snapshot, double[] ratings) {
+        this.leagueId = snapshot.leagueId;
+        this.version = snapshot.version;
+        this.teamIndexById = snapshot.teamIndexById;
+        this.playerIds = snapshot.playerIds;
+        this.playerNames = snapshot.playerNames;
+        this.attackersByTeam = snapshot.attackersByTeam;
+        this.ratings = ratings;
+    }
+
+    // Version is read before the query, so a change made while loading marks the snapshot stale
+    public static RosterSnapshot ofLeague(Long leagueId, PlayerService playerService) {
+        long version = playerService.getRosterVersion(leagueId);
+        return new RosterSnapshot(leagueId, version, playerService.getRosterByLeague(leagueId));
+    }
+
+    public static RosterSnapshot ofTeams(Collection<Long> teamIds, PlayerService playerService) {
+        long version = playerService.getRosterVersion();
+        return new RosterSnapshot(null, version, playerService.getRosterByTeams(teamIds));
+    }
+
+    // True once a player of the snapshot's league has been added, moved or removed since it was
+    // taken; a snapshot of teams across leagues goes stale with a change in any league
+    public boolean isStale(PlayerService playerService) {
+        long current = leagueId == null ? playerService.getRosterVersion() : playerService.getRosterVersion(leagueId);
+        return current != version;
+    }
+
+    // The ratings after the given finished matches, computed as RatingService writes them, so
+    // the next round sees what the database would hold without reading it back
+    public RosterSnapshot withResults(List<Match> matches, List<MatchResult> results) {
+        double[] next = ratings.clone();
+        for (int i = 0; i < matches.size(); i++) {
+            Integer home = teamIndexById.get(matches.get(i).getHomeTeam().getId());
+            Integer away = teamIndexById.get(matches.get(i).getAwayTeam().getId());
+            if (home == null || away == null) {
+                continue;
+            }
+            MatchResult result = results.get(i);
+            double change = RatingService.ratingChange(next[home], next[away], result.homeGoals(), result.awayGoals());
+            next[home] += change;
+            next[away] -= change;
+        }
+        return new RosterSnapshot(this, next);
+    }
+
+    public int teamIndex(Long teamId) {
+        Integer team = teamIndexById.get(teamId);
+        if (team == null) {
+            throw new RuntimeException("Team " + teamId + " has no players in the roster snapshot");
+        }
+        return team;
+    }
+
+    public double rating(int team) {
+        return ratings[team];
+    }
+
+    public int attackerCount(int team) {
+        return attackersByTeam[team].length;
+    }
+
+    // Player index of the n-th forward or midfielder of a team
+    public int attacker(int team, int n) {
+        return attackersByTeam[team][n];
+    }
+
+    public long playerId(int player) {
+        return playerIds[player];
+    }
+
+    public String playerName(int player) {
+        return playerNames[player];
+    }
+
+    // Forwards and midfielders are the only players who score
+    static boolean isAttacker(PlayerPosition position) {
+        return position == PlayerPosition.FORWARD || position == PlayerPosition.MIDFIELDER;
+    }
+}
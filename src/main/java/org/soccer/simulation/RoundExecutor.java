@@ -0,0 +1,135 @@
+package org.soccer.simulation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+import org.soccer.models.Match;
+import org.soccer.repositories.MatchEventRepository;
+import org.soccer.repositories.MatchRepository;
+import org.soccer.repositories.PlayerRepository;
+import org.soccer.repositories.TeamRepository;
+import org.soccer.repositories.TransactionTemplate;
+import org.soccer.services.MatchEventService;
+import org.soccer.services.MatchService;
+import org.soccer.services.PlayerService;
+import org.soccer.services.TeamService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// Plays every match of a round at once, one virtual thread and EntityManager per fixture.
+// Standings, ratings and points are applied afterwards on the calling thread in fixture
+// order, as one batch per round, so the outcome does not depend on which match finishes
+// first. A fixture that fails is rolled back in its own context; the others are still merged
+// before the failure is thrown.
+public class RoundExecutor {
+    private final EntityManagerFactory emf;
+    private final TransactionTemplate transactionTemplate;
+    private final PlayerService playerService;
+    private final MatchService matchService;
+    private final MatchSimulator matchSimulator;
+
+    // The services and simulator belong to the caller's EntityManager
+    public RoundExecutor(EntityManagerFactory emf, TransactionTemplate transactionTemplate, PlayerService playerService,
+                         MatchService matchService, MatchSimulator matchSimulator) {
+        this.emf = emf;
+        this.transactionTemplate = transactionTemplate;
+        this.playerService = playerService;
+        this.matchService = matchService;
+        this.matchSimulator = matchSimulator;
+    }
+
+    // The roster snapshot is immutable and shared by every match of the round
+    public List<MatchResult> playRound(List<Match> matches, RosterSnapshot roster) {
+        return playRound(matches, roster, null);
+    }
+
+    // randoms, when given, holds one stream per match in the same order; each stream is
+    // used by its match only, so results do not depend on thread scheduling
+    public List<MatchResult> playRound(List<Match> matches, RosterSnapshot roster,
+                                       List<? extends RandomGenerator> randoms) {
+        List<Future<MatchResult>> futures = new ArrayList<>(matches.size());
+        // Closing the executor waits for every fixture, including after an interrupt
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < matches.size(); i++) {
+                Long matchId = matches.get(i).getId();
+                RandomGenerator random = randoms == null ? null : randoms.get(i);
+                futures.add(executor.submit(() -> playInOwnContext(matchId, roster, random)));
+            }
+        }
+
+        // Null marks a fixture that failed
+        List<MatchResult> results = new ArrayList<>(matches.size());
+        RuntimeException failure = null;
+        for (Future<MatchResult> future : futures) {
+            if (future.state() == Future.State.SUCCESS) {
+                results.add(future.resultNow());
+            } else {
+                results.add(null);
+                RuntimeException e = failure(future);
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        // Merge the committed fixtures in fixture order, in a single transaction
+        transactionTemplate.execute(() -> {
+            List<Match> played = new ArrayList<>(matches.size());
+            List<MatchResult> playedResults = new ArrayList<>(matches.size());
+            Set<Long> scorers = new HashSet<>();
+            for (int i = 0; i < matches.size(); i++) {
+                Match match = matches.get(i);
+                MatchResult result = results.get(i);
+                if (result == null) {
+                    continue;
+                }
+                matchService.refreshMatch(match);
+                played.add(match);
+                playedResults.add(result);
+                for (MatchResult.Goal goal : result.goals()) {
+                    scorers.add(goal.playerId());
+                }
+            }
+            playerService.refreshPlayers(scorers);
+            matchSimulator.applyResults(played, playedResults);
+        });
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    private MatchResult playInOwnContext(Long matchId, RosterSnapshot roster, RandomGenerator random) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            // Goals are published to the caller's leaderboard, which is shared by every thread
+            PlayerService players = new PlayerService(new PlayerRepository(em), playerService.getLeaderboardService(),
+                                                      playerService.getRosterVersions());
+            TeamService teams = new TeamService(new TeamRepository(em));
+            MatchService matches = new MatchService(new MatchRepository(em), null,
+                                                    matchService.getLiveMatchRegistry());
+            MatchEventService events = new MatchEventService(new MatchEventRepository(em));
+            MatchSimulator simulator = new MatchSimulator(new TransactionTemplate(em), players, teams, matches, events,
+                                                          matchSimulator.getGoalSampler());
+            Match match = matches.getMatchById(matchId);
+            return random == null ? simulator.play(match, roster) : simulator.play(match, roster, random);
+        } finally {
+            em.close();
+        }
+    }
+
+    private static RuntimeException failure(Future<MatchResult> future) {
+        Throwable cause = future.state() == Future.State.FAILED ? future.exceptionNow() : new CancellationException();
+        return new RuntimeException("Match simulation failed: " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,74 @@
+package org.soccer.simulation;
+
+import java.util.List;
+
+// Finishing-position distribution produced by SeasonForecaster
+public class SeasonForecast {
+    private final Long leagueId;
+    private final List<Long> teamIds;
+    private final List<String> teamNames;
+    private final long[][] positionCounts; // [team][position], position 0 is first place
+    private final int runs;
+    private final long elapsedNanos;
+
+    public SeasonForecast(Long leagueId, List<Long> teamIds, List<String> teamNames,
+                          long[][] positionCounts, int runs, long elapsedNanos) {
+        this.leagueId = leagueId;
+        this.teamIds = teamIds;
+        this.teamNames = teamNames;
+        this.positionCounts = positionCounts;
+        this.runs = runs;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Long getLeagueId() {
+        return leagueId;
+    }
+
+    public List<Long> getTeamIds() {
+        return teamIds;
+    }
+
+    public List<String> getTeamNames() {
+        return teamNames;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    // Number of runs in which the team finished in the given position
+    public long getPositionCount(int team, int position) {
+        return positionCounts[team][position];
+    }
+
+    public long[] getPositionHistogram(int team) {
+        return positionCounts[team].clone();
+    }
+
+    public double getPositionProbability(int team, int position) {
+        return runs == 0 ? 0.0 : (double) positionCounts[team][position] / runs;
+    }
+
+    public double getTitleProbability(int team) {
+        return getPositionProbability(team, 0);
+    }
+
+    // Probability of finishing in one of the bottom relegationSpots positions
+    public double getRelegationProbability(int team, int relegationSpots) {
+        int teamCount = teamIds.size();
+        long count = 0;
+        for (int position = Math.max(0, teamCount - relegationSpots); position < teamCount; position++) {
+            count += positionCounts[team][position];
+        }
+        return runs == 0 ? 0.0 : (double) count / runs;
+    }
+
+    public double getRunsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : runs * 1_000_000_000.0 / elapsedNanos;
+    }
+}
@@ -0,0 +1,301 @@
+package org.soccer.simulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import org.soccer.dto.RosterEntry;
+import org.soccer.models.Match;
+import org.soccer.models.Team;
+import org.soccer.services.MatchService;
+import org.soccer.services.PlayerService;
+import org.soccer.services.RatingService;
+import org.soccer.services.TeamService;
+
+// Monte Carlo forecast of a league's remaining fixtures.
+// The league is copied into primitive arrays once, so the runs never touch JPA.
+public class SeasonForecaster {
+    private static final int RUNS_PER_TASK = 2_000;
+
+    private final TeamService teamService;
+    private final PlayerService playerService;
+    private final MatchService matchService;
+    private final ForkJoinPool pool;
+    private final GoalSampler goalSampler;
+
+    public SeasonForecaster(TeamService teamService, PlayerService playerService, MatchService matchService) {
+        this(teamService, playerService, matchService, ForkJoinPool.commonPool());
+    }
+
+    public SeasonForecaster(TeamService teamService, PlayerService playerService, MatchService matchService,
+                            ForkJoinPool pool) {
+        this(teamService, playerService, matchService, pool,
+             new GeometricGoalSampler(MatchSimulator.GOAL_CHANCE_PER_MINUTE));
+    }
+
+    public SeasonForecaster(TeamService teamService, PlayerService playerService, MatchService matchService,
+                            ForkJoinPool pool, GoalSampler goalSampler) {
+        this.teamService = teamService;
+        this.playerService = playerService;
+        this.matchService = matchService;
+        this.pool = pool;
+        this.goalSampler = goalSampler;
+    }
+
+    public SeasonForecast forecast(Long leagueId, int runs) {
+        return forecast(leagueId, runs, false, null);
+    }
+
+    public SeasonForecast forecast(Long leagueId, int runs, SimulationSeed seed) {
+        return forecast(leagueId, runs, false, seed);
+    }
+
+    // A home-and-away season still owes every pairing its return fixture.
+    // With a seed each run draws from its own stream, so the forecast is the same whatever
+    // the pool size or how the runs are split between tasks
+    public SeasonForecast forecast(Long leagueId, int runs, boolean homeAndAway, SimulationSeed seed) {
+        if (runs <= 0) {
+            throw new IllegalArgumentException("Number of runs must be positive");
+        }
+        LeagueSnapshot snapshot = snapshot(leagueId, homeAndAway);
+
+        long start = System.nanoTime();
+        long[] histogram = pool.invoke(new ForecastTask(snapshot, goalSampler,
+                                                        seed == null ? null : seed.forLeague(leagueId), 0, runs));
+        long elapsed = System.nanoTime() - start;
+
+        int n = snapshot.teamCount;
+        long[][] positionCounts = new long[n][n];
+        for (int team = 0; team < n; team++) {
+            System.arraycopy(histogram, team * n, positionCounts[team], 0, n);
+        }
+        return new SeasonForecast(leagueId, snapshot.teamIds, snapshot.teamNames, positionCounts, runs, elapsed);
+    }
+
+    private LeagueSnapshot snapshot(Long leagueId, boolean homeAndAway) {
+        List<Team> teams = teamService.getTeamsByLeague(leagueId);
+        int n = teams.size();
+        if (n < 2) {
+            throw new RuntimeException("League needs at least 2 teams to forecast");
+        }
+
+        LeagueSnapshot snapshot = new LeagueSnapshot(n);
+        Map<Long, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Team team = teams.get(i);
+            indexById.put(team.getId(), i);
+            snapshot.teamIds.add(team.getId());
+            snapshot.teamNames.add(team.getName());
+            snapshot.ratings[i] = team.getRating();
+        }
+        // Every squad of the league in one query
+        for (RosterEntry entry : playerService.getRosterByLeague(leagueId)) {
+            Integer team = indexById.get(entry.teamId());
+            if (team != null && RosterSnapshot.isAttacker(entry.position())) {
+                snapshot.attackers[team]++;
+            }
+        }
+
+        // This season's results count towards the base table and are not replayed
+        Set<Long> playedPairs = new HashSet<>();
+        for (Match match : matchService.getCurrentSeasonResults(leagueId)) {
+            Integer home = indexById.get(match.getHomeTeam().getId());
+            Integer away = indexById.get(match.getAwayTeam().getId());
+            if (home == null || away == null) {
+                continue;
+            }
+            snapshot.record(home, away, match.getHomeScore(), match.getAwayScore());
+            playedPairs.add(homeAndAway ? fixtureKey(home, away) : pairKey(home, away));
+        }
+
+        // The rest of the league's own schedule, over the same team order SeasonRunner plays it
+        // in, so every remaining fixture keeps its venue. In a single round robin a pairing that
+        // has met already counts as played whichever side hosted it.
+        FixtureSchedule schedule = new FixtureSchedule(n, homeAndAway);
+        List<int[]> remaining = new ArrayList<>();
+        for (int round = 0; round < schedule.getRounds(); round++) {
+            schedule.forEachMatch(round, (home, away) -> {
+                if (!playedPairs.contains(homeAndAway ? fixtureKey(home, away) : pairKey(home, away))) {
+                    remaining.add(new int[] { home, away });
+                }
+            });
+        }
+        snapshot.fixtureHome = new int[remaining.size()];
+        snapshot.fixtureAway = new int[remaining.size()];
+        for (int i = 0; i < remaining.size(); i++) {
+            snapshot.fixtureHome[i] = remaining.get(i)[0];
+            snapshot.fixtureAway[i] = remaining.get(i)[1];
+        }
+        return snapshot;
+    }
+
+    private static long pairKey(int a, int b) {
+        return fixtureKey(Math.min(a, b), Math.max(a, b));
+    }
+
+    private static long fixtureKey(int home, int away) {
+        return ((long) home << 32) | away;
+    }
+
+    // Immutable once built; shared read-only by every task
+    private static final class LeagueSnapshot {
+        final int teamCount;
+        final List<Long> teamIds = new ArrayList<>();
+        final List<String> teamNames = new ArrayList<>();
+        final int[] attackers;
+        final double[] ratings;
+        final int[] points;
+        final int[] goalsFor;
+        final int[] goalsAgainst;
+        int[] fixtureHome;
+        int[] fixtureAway;
+
+        LeagueSnapshot(int teamCount) {
+            this.teamCount = teamCount;
+            this.attackers = new int[teamCount];
+            this.ratings = new double[teamCount];
+            this.points = new int[teamCount];
+            this.goalsFor = new int[teamCount];
+            this.goalsAgainst = new int[teamCount];
+        }
+
+        void record(int home, int away, int homeGoals, int awayGoals) {
+            applyResult(points, goalsFor, goalsAgainst, home, away, homeGoals, awayGoals);
+        }
+    }
+
+    private static void applyResult(int[] points, int[] goalsFor, int[] goalsAgainst,
+                                    int home, int away, int homeGoals, int awayGoals) {
+        goalsFor[home] += homeGoals;
+        goalsAgainst[home] += awayGoals;
+        goalsFor[away] += awayGoals;
+        goalsAgainst[away] += homeGoals;
+        if (homeGoals > awayGoals) {
+            points[home] += 3;
+        } else if (awayGoals > homeGoals) {
+            points[away] += 3;
+        } else {
+            points[home] += 1;
+            points[away] += 1;
+        }
+    }
+
+    // Splits the run range in half until it is small enough to simulate directly.
+    // Each leaf fills its own flat [team * n + position] histogram; joins add them up.
+    private static final class ForecastTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        // ForkJoinTask is Serializable, but tasks never leave the pool
+        private final transient LeagueSnapshot snapshot;
+        private final transient GoalSampler goalSampler;
+        private final transient SimulationSeed seed;
+        private final int fromRun;
+        private final int toRun;
+
+        ForecastTask(LeagueSnapshot snapshot, GoalSampler goalSampler, SimulationSeed seed, int fromRun, int toRun) {
+            this.snapshot = snapshot;
+            this.goalSampler = goalSampler;
+            this.seed = seed;
+            this.fromRun = fromRun;
+            this.toRun = toRun;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (toRun - fromRun <= RUNS_PER_TASK) {
+                return simulateRuns();
+            }
+            int mid = (fromRun + toRun) >>> 1;
+            ForecastTask left = new ForecastTask(snapshot, goalSampler, seed, fromRun, mid);
+            ForecastTask right = new ForecastTask(snapshot, goalSampler, seed, mid, toRun);
+            left.fork();
+            long[] result = right.compute();
+            long[] other = left.join();
+            for (int i = 0; i < result.length; i++) {
+                result[i] += other[i];
+            }
+            return result;
+        }
+
+        private long[] simulateRuns() {
+            int n = snapshot.teamCount;
+            long[] histogram = new long[n * n];
+            int[] points = new int[n];
+            int[] goalsFor = new int[n];
+            int[] goalsAgainst = new int[n];
+            int[] order = new int[n];
+            double[] ratings = new double[n];
+            for (int run = fromRun; run < toRun; run++) {
+                RandomGenerator random = seed == null ? ThreadLocalRandom.current() : seed.forRun(run);
+                System.arraycopy(snapshot.points, 0, points, 0, n);
+                System.arraycopy(snapshot.goalsFor, 0, goalsFor, 0, n);
+                System.arraycopy(snapshot.goalsAgainst, 0, goalsAgainst, 0, n);
+                System.arraycopy(snapshot.ratings, 0, ratings, 0, n);
+
+                for (int f = 0; f < snapshot.fixtureHome.length; f++) {
+                    int home = snapshot.fixtureHome[f];
+                    int away = snapshot.fixtureAway[f];
+                    int homeGoals = 0;
+                    int awayGoals = 0;
+                    int last = MatchSimulator.MATCH_MINUTES;
+                    double homeShare = RatingService.expectedHomeScore(ratings[home], ratings[away]);
+                    for (int minute = goalSampler.nextGoalMinute(0, last, random); minute <= last;
+                         minute = goalSampler.nextGoalMinute(minute, last, random)) {
+                        // A side without forwards or midfielders cannot convert its chance
+                        if (random.nextDouble() < homeShare) {
+                            if (snapshot.attackers[home] > 0) homeGoals++;
+                        } else {
+                            if (snapshot.attackers[away] > 0) awayGoals++;
+                        }
+                    }
+                    applyResult(points, goalsFor, goalsAgainst, home, away, homeGoals, awayGoals);
+                    // Ratings move within the run, as they would over the real season
+                    double change = RatingService.ratingChange(ratings[home], ratings[away], homeGoals, awayGoals);
+                    ratings[home] += change;
+                    ratings[away] -= change;
+                }
+
+                rank(order, points, goalsFor, goalsAgainst);
+                for (int position = 0; position < n; position++) {
+                    histogram[order[position] * n + position]++;
+                }
+            }
+            return histogram;
+        }
+    }
+
+    // Insertion sort by points, goal difference, goals for, then team index; allocation free
+    private static void rank(int[] order, int[] points, int[] goalsFor, int[] goalsAgainst) {
+        for (int i = 0; i < order.length; i++) {
+            int team = order[i] = i;
+            int j = i - 1;
+            while (j >= 0 && ranksAbove(team, order[j], points, goalsFor, goalsAgainst)) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = team;
+        }
+    }
+
+    private static boolean ranksAbove(int a, int b, int[] points, int[] goalsFor, int[] goalsAgainst) {
+        if (points[a] != points[b]) {
+            return points[a] > points[b];
+        }
+        int diffA = goalsFor[a] - goalsAgainst[a];
+        int diffB = goalsFor[b] - goalsAgainst[b];
+        if (diffA != diffB) {
+            return diffA > diffB;
+        }
+        if (goalsFor[a] != goalsFor[b]) {
+            return goalsFor[a] > goalsFor[b];
+        }
+        return a < b;
+    }
+}
@@ -0,0 +1,19 @@
+package org.soccer.simulation;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.soccer.models.StandingRow;
+
+// Final table and timings of a headless season run
+public record SeasonResult(Long leagueId,
+                           String leagueName,
+                           List<StandingRow> table,
+                           int matchesPlayed,
+                           List<Duration> roundTimes,
+                           Duration totalTime) {
+
+    public Duration averageMatchTime() {
+        return matchesPlayed == 0 ? Duration.ZERO : totalTime.dividedBy(matchesPlayed);
+    }
+}
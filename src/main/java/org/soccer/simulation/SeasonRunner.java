@@ -0,0 +1,145 @@
+package org.soccer.simulation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.soccer.dto.LeagueReadiness;
+import org.soccer.models.League;
+import org.soccer.models.LeagueStandings;
+import org.soccer.models.Match;
+import org.soccer.models.Team;
+import org.soccer.repositories.TransactionTemplate;
+import org.soccer.services.LeagueService;
+import org.soccer.services.MatchService;
+import org.soccer.services.PlayerService;
+import org.soccer.services.ReadinessService;
+import org.soccer.services.TeamService;
+
+// Plays a whole league season without any console interaction
+public class SeasonRunner {
+    private final TransactionTemplate transactionTemplate;
+    private final LeagueService leagueService;
+    private final TeamService teamService;
+    private final PlayerService playerService;
+    private final ReadinessService readinessService;
+    private final MatchService matchService;
+    private final MatchSimulator matchSimulator;
+    private final RoundExecutor roundExecutor;
+
+    public SeasonRunner(TransactionTemplate transactionTemplate, LeagueService leagueService, TeamService teamService,
+                        PlayerService playerService, MatchService matchService, MatchSimulator matchSimulator) {
+        this(transactionTemplate, leagueService, teamService, playerService, matchService, matchSimulator, null);
+    }
+
+    // With a RoundExecutor the matches of each round are played concurrently
+    public SeasonRunner(TransactionTemplate transactionTemplate, LeagueService leagueService, TeamService teamService,
+                        PlayerService playerService, MatchService matchService, MatchSimulator matchSimulator,
+                        RoundExecutor roundExecutor) {
+        this.transactionTemplate = transactionTemplate;
+        this.leagueService = leagueService;
+        this.teamService = teamService;
+        this.playerService = playerService;
+        this.readinessService = new ReadinessService(teamService, playerService);
+        this.matchService = matchService;
+        this.matchSimulator = matchSimulator;
+        this.roundExecutor = roundExecutor;
+    }
+
+    public SeasonResult run(Long leagueId) {
+        return run(leagueId, false);
+    }
+
+    // A home-and-away season plays every pairing twice with venues swapped
+    public SeasonResult run(Long leagueId, boolean homeAndAway) {
+        return run(leagueId, homeAndAway, null);
+    }
+
+    // With a seed every fixture draws from its own stream, so the season replays identically
+    // in sequential and parallel mode; without one it uses ThreadLocalRandom
+    public SeasonResult run(Long leagueId, boolean homeAndAway, SimulationSeed seed) {
+        long seasonStart = System.nanoTime();
+        League league = leagueService.getLeagueById(leagueId);
+        validate(league);
+        List<Team> teams = teamService.getTeamsByLeague(leagueId);
+        // Load the table now so every result below is applied to it incrementally
+        LeagueStandings standings = leagueService.getStandings(leagueId);
+
+        // Squads and ratings are loaded once per season and only reloaded after a roster change;
+        // in between, the snapshot's ratings follow each round's results
+        RosterSnapshot roster = RosterSnapshot.ofLeague(leagueId, playerService);
+        FixtureSchedule schedule = new FixtureSchedule(teams.size(), homeAndAway);
+        SimulationSeed leagueSeed = seed == null ? null : seed.forLeague(leagueId);
+        List<Duration> roundTimes = new ArrayList<>(schedule.getRounds());
+        int matchesPlayed = 0;
+
+        for (int round = 0; round < schedule.getRounds(); round++) {
+            long roundStart = System.nanoTime();
+            int scheduledRound = round;
+            if (roster.isStale(playerService)) {
+                roster = RosterSnapshot.ofLeague(leagueId, playerService);
+            }
+            RosterSnapshot roundRoster = roster;
+            List<Match> roundMatches;
+            List<MatchResult> results;
+            if (roundExecutor != null) {
+                // Fixtures must be committed before other EntityManagers can play them
+                roundMatches = transactionTemplate.execute(() -> createMatches(league, teams, schedule, scheduledRound));
+                results = roundExecutor.playRound(roundMatches, roundRoster,
+                                                  fixtureRandoms(leagueSeed, round, roundMatches));
+            } else {
+                // The whole round is one unit of work, counted for the league once all its matches are played
+                roundMatches = new ArrayList<>(schedule.getMatchesPerRound());
+                results = transactionTemplate.execute(() -> {
+                    roundMatches.addAll(createMatches(league, teams, schedule, scheduledRound));
+                    List<SplittableRandom> randoms = fixtureRandoms(leagueSeed, scheduledRound, roundMatches);
+                    List<MatchResult> played = new ArrayList<>(roundMatches.size());
+                    for (int i = 0; i < roundMatches.size(); i++) {
+                        played.add(randoms == null
+                                ? matchSimulator.play(roundMatches.get(i), roundRoster)
+                                : matchSimulator.play(roundMatches.get(i), roundRoster, randoms.get(i)));
+                    }
+                    matchSimulator.applyResults(roundMatches, played);
+                    return played;
+                });
+            }
+            roster = roster.withResults(roundMatches, results);
+            matchesPlayed += schedule.getMatchesPerRound();
+            roundTimes.add(Duration.ofNanos(System.nanoTime() - roundStart));
+        }
+
+        return new SeasonResult(league.getId(), league.getName(), standings.getTable(), matchesPlayed,
+                                roundTimes, Duration.ofNanos(System.nanoTime() - seasonStart));
+    }
+
+    private static List<SplittableRandom> fixtureRandoms(SimulationSeed leagueSeed, int round, List<Match> matches) {
+        if (leagueSeed == null) {
+            return null;
+        }
+        List<SplittableRandom> randoms = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            randoms.add(leagueSeed.forFixture(round, match.getHomeTeam().getId(), match.getAwayTeam().getId()));
+        }
+        return randoms;
+    }
+
+    // Persists the matches of one scheduled round, in slot order
+    public List<Match> createMatches(League league, List<Team> teams, FixtureSchedule schedule, int round) {
+        List<Match> matches = new ArrayList<>(schedule.getMatchesPerRound());
+        schedule.forEachMatch(round, (home, away) -> {
+            Match match = new Match(teams.get(home), teams.get(away), league);
+            matchService.createMatch(match);
+            matches.add(match);
+        });
+        return matches;
+    }
+
+    // Same preconditions the interactive simulation enforces
+    public void validate(League league) {
+        LeagueReadiness readiness = readinessService.getReadiness(league);
+        if (!readiness.isReady()) {
+            throw new RuntimeException(readiness.problems().get(0));
+        }
+    }
+}
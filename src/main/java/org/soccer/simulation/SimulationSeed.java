@@ -0,0 +1,46 @@
+package org.soccer.simulation;
+
+import java.util.SplittableRandom;
+
+// Derives independent random streams from one master seed. Every stream is keyed by what
+// it simulates (league, round, the two teams; or a forecast run), never by thread or
+// order of execution, so a seeded season replays identically sequentially or in parallel.
+public class SimulationSeed {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+
+    private SimulationSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public static SimulationSeed of(long masterSeed) {
+        return new SimulationSeed(masterSeed);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public SimulationSeed forLeague(long leagueId) {
+        return new SimulationSeed(combine(seed, leagueId));
+    }
+
+    // Stream for one fixture; round is the zero-based round of the schedule
+    public SplittableRandom forFixture(int round, long homeTeamId, long awayTeamId) {
+        return new SplittableRandom(combine(combine(combine(seed, round), homeTeamId), awayTeamId));
+    }
+
+    // Stream for one Monte Carlo run
+    public SplittableRandom forRun(long run) {
+        return new SplittableRandom(combine(seed, run));
+    }
+
+    // SplitMix64 finaliser over the running hash and the next key
+    private static long combine(long hash, long key) {
+        long z = hash + GOLDEN_GAMMA * (key + 1);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,120 @@
+package org.soccer.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import org.apache.commons.math3.distribution.BinomialDistribution;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.junit.jupiter.api.Test;
+
+// Final scores of many simulated matches compared with the exact score distribution by a
+// chi-square goodness-of-fit test. MatchSimulator gives each goal to the home side with a chance
+// that follows the teams' ratings; the fair coin flip here is the case of two evenly rated sides.
+//
+// Under the model each minute is independently a home goal, an away goal or neither, with
+// chances p/2, p/2 and 1 - p, so a final score (h, a) is multinomial over 90 minutes.
+class GoalSamplerTest {
+    private static final double GOAL_CHANCE = MatchSimulator.GOAL_CHANCE_PER_MINUTE;
+    private static final int MATCHES = 200_000;
+    private static final double SIGNIFICANCE = 0.001;
+    // Cells expected to see fewer matches than this are pooled, as the test requires
+    private static final double MIN_EXPECTED = 5.0;
+
+    @Test
+    void perMinuteSamplerFollowsTheModel() {
+        assertTrue(pValue(new PerMinuteGoalSampler(GOAL_CHANCE), 1L) >= SIGNIFICANCE);
+    }
+
+    @Test
+    void geometricSamplerFollowsTheModel() {
+        assertTrue(pValue(new GeometricGoalSampler(GOAL_CHANCE), 1L) >= SIGNIFICANCE);
+    }
+
+    // The check has the power to reject a sampler that is only slightly off
+    @Test
+    void samplerWithAnotherGoalChanceIsRejected() {
+        assertTrue(pValue(new GeometricGoalSampler(0.06), 1L) < SIGNIFICANCE);
+    }
+
+    @Test
+    void geometricSamplerDrawsFarLessThanOncePerMinute() {
+        CountingRandom perMinute = new CountingRandom(new SplittableRandom(2L));
+        CountingRandom geometric = new CountingRandom(new SplittableRandom(2L));
+        playMatches(new PerMinuteGoalSampler(GOAL_CHANCE), perMinute, 10_000);
+        playMatches(new GeometricGoalSampler(GOAL_CHANCE), geometric, 10_000);
+        assertTrue(geometric.draws * 5 < perMinute.draws);
+    }
+
+    // Helper methods
+
+    private static double pValue(GoalSampler sampler, long seed) {
+        int last = MatchSimulator.MATCH_MINUTES;
+        long[][] observed = playMatches(sampler, new SplittableRandom(seed), MATCHES);
+
+        // Total goals are binomial(90, p), and each goal goes home or away with even chances
+        BinomialDistribution goals = new BinomialDistribution(null, last, GOAL_CHANCE);
+        List<Double> expected = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        double pooledExpected = 0;
+        long pooledObserved = 0;
+        for (int home = 0; home <= last; home++) {
+            for (int away = 0; home + away <= last; away++) {
+                int total = home + away;
+                double probability = goals.probability(total)
+                                     * new BinomialDistribution(null, total, 0.5).probability(home);
+                double cell = MATCHES * probability;
+                if (cell < MIN_EXPECTED) {
+                    pooledExpected += cell;
+                    pooledObserved += observed[home][away];
+                } else {
+                    expected.add(cell);
+                    counts.add(observed[home][away]);
+                }
+            }
+        }
+        expected.add(pooledExpected);
+        counts.add(pooledObserved);
+        return new ChiSquareTest().chiSquareTest(expected.stream().mapToDouble(Double::doubleValue).toArray(),
+                                                 counts.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    // observed[home][away] counts the matches that ended with that score
+    private static long[][] playMatches(GoalSampler sampler, RandomGenerator random, int matches) {
+        int last = MatchSimulator.MATCH_MINUTES;
+        long[][] observed = new long[last + 1][last + 1];
+        for (int match = 0; match < matches; match++) {
+            int homeGoals = 0;
+            int awayGoals = 0;
+            for (int minute = sampler.nextGoalMinute(0, last, random); minute <= last;
+                 minute = sampler.nextGoalMinute(minute, last, random)) {
+                if (random.nextBoolean()) {
+                    homeGoals++;
+                } else {
+                    awayGoals++;
+                }
+            }
+            observed[homeGoals][awayGoals]++;
+        }
+        return observed;
+    }
+
+    // Counts every underlying draw; the other RandomGenerator methods are built on nextLong
+    private static final class CountingRandom implements RandomGenerator {
+        private final RandomGenerator delegate;
+        private long draws;
+
+        CountingRandom(RandomGenerator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public long nextLong() {
+            draws++;
+            return delegate.nextLong();
+        }
+    }
+}
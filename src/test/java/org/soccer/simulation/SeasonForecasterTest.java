@@ -0,0 +1,89 @@
+package org.soccer.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.soccer.data.DatasetGenerator;
+import org.soccer.data.DatasetSpec;
+import org.soccer.repositories.MatchRepository;
+import org.soccer.repositories.PlayerRepository;
+import org.soccer.repositories.TeamRepository;
+import org.soccer.services.MatchService;
+import org.soccer.services.PlayerService;
+import org.soccer.services.TeamService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+// Forecasts a fresh league of four equally rated teams. Their odds then differ only through the
+// venues of the schedule: a single round robin of four lets two teams host twice and two once,
+// and each pair with the same home count must come out alike.
+class SeasonForecasterTest {
+    private static final int TEAMS = 4;
+    private static final int RUNS = 200_000;
+    // Exact ties on points, goal difference and goals are ranked by index, which favours the
+    // lower index slightly; home advantage is worth many times more than this
+    private static final double TOLERANCE = 0.02;
+
+    private static EntityManagerFactory emf;
+    private static EntityManager em;
+    private static SeasonForecast forecast;
+
+    @BeforeAll
+    static void forecastFreshLeague() {
+        emf = Persistence.createEntityManagerFactory("default");
+        // One league, no seasons played: every team keeps the initial rating
+        new DatasetGenerator(emf).generate(new DatasetSpec(1, TEAMS, 5, 0, DatasetSpec.DEFAULT_SEED));
+        em = emf.createEntityManager();
+        Long leagueId = em.createQuery("SELECT l.id FROM League l", Long.class).getSingleResult();
+        SeasonForecaster forecaster = new SeasonForecaster(new TeamService(new TeamRepository(em)),
+                                                           new PlayerService(new PlayerRepository(em)),
+                                                           new MatchService(new MatchRepository(em)));
+        forecast = forecaster.forecast(leagueId, RUNS, SimulationSeed.of(7L));
+    }
+
+    @AfterAll
+    static void close() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    void teamsWithEqualHomeCountsGetEqualOdds() {
+        int[] homeGames = homeGames();
+        for (int a = 0; a < TEAMS; a++) {
+            for (int b = a + 1; b < TEAMS; b++) {
+                if (homeGames[a] == homeGames[b]) {
+                    assertEquals(forecast.getTitleProbability(a), forecast.getTitleProbability(b), TOLERANCE);
+                }
+            }
+        }
+    }
+
+    @Test
+    void teamsHostingTwiceAreFavoured() {
+        int[] homeGames = homeGames();
+        for (int a = 0; a < TEAMS; a++) {
+            for (int b = 0; b < TEAMS; b++) {
+                if (homeGames[a] > homeGames[b]) {
+                    assertTrue(forecast.getTitleProbability(a) > forecast.getTitleProbability(b) + 5 * TOLERANCE);
+                }
+            }
+        }
+    }
+
+    // Helper methods
+
+    private static int[] homeGames() {
+        FixtureSchedule schedule = new FixtureSchedule(TEAMS, false);
+        int[] homeGames = new int[TEAMS];
+        for (int round = 0; round < schedule.getRounds(); round++) {
+            schedule.forEachMatch(round, (home, away) -> homeGames[home]++);
+        }
+        return homeGames;
+    }
+}